@@ -0,0 +1,85 @@
+package com.hostel.complaint.benchmark;
+
+import com.hostel.complaint.entity.Complaint;
+import com.hostel.complaint.repository.ComplaintRepository;
+import com.hostel.complaint.service.ComplaintIngestionService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Complaint creation under a burst of concurrent submitters: the direct path
+ * (one transaction and INSERT per complaint, as ComplaintService does)
+ * against batched ingestion, where each caller waits for its batch to
+ * commit. Both acknowledge only durable writes, so throughput is comparable.
+ * Each method runs in its own fork, so the two id strategies never share a table.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@Threads(64)
+public class ComplaintIngestionBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private ComplaintRepository complaintRepository;
+    private TransactionTemplate transactionTemplate;
+    private ComplaintIngestionService ingestionService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = JpaSlice.start(new Class<?>[] {ComplaintIngestionService.class},
+                "complaints.ingestion.batched=true",
+                "complaints.ingestion.queue-capacity=10000",
+                "complaints.ingestion.batch-size=200",
+                "complaints.ingestion.max-delay-ms=5",
+                "spring.jpa.properties.hibernate.jdbc.batch_size=50");
+        complaintRepository = context.getBean(ComplaintRepository.class);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+        ingestionService = context.getBean(ComplaintIngestionService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    private static Complaint newComplaint() {
+        Complaint complaint = new Complaint();
+        complaint.setTitle("No water in block B");
+        complaint.setDescription("Taps on the second floor have been dry since the morning.");
+        complaint.setCategory(Complaint.Category.MAINTENANCE);
+        complaint.setPriority(Complaint.Priority.HIGH);
+        complaint.setStatus(Complaint.Status.PENDING);
+        complaint.setStudentId(42L);
+        complaint.setStudentName("Student 42");
+        complaint.setRoomNumber("B-214");
+        return complaint;
+    }
+
+    @Benchmark
+    public Complaint direct() {
+        return transactionTemplate.execute(status -> complaintRepository.save(newComplaint()));
+    }
+
+    @Benchmark
+    public Complaint batched() {
+        return ingestionService.submit(newComplaint()).join();
+    }
+}
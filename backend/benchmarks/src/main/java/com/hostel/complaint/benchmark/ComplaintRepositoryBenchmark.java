@@ -0,0 +1,146 @@
+package com.hostel.complaint.benchmark;
+
+import com.hostel.complaint.dto.ChangeProbe;
+import com.hostel.complaint.dto.ComplaintSummary;
+import com.hostel.complaint.entity.Complaint;
+import com.hostel.complaint.repository.ComplaintRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Query cost of the complaint read paths against an in-memory H2 database
+ * with the entity's indexes, so plan changes (new index, keyset vs. offset,
+ * projection vs. entity) show up as numbers rather than guesses.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class ComplaintRepositoryBenchmark {
+
+    private static final int PAGE_SIZE = 50;
+    private static final int INSERT_BATCH = 1000;
+
+    @Param({"10000", "100000"})
+    public int rows;
+
+    private ConfigurableApplicationContext context;
+    private ComplaintRepository complaintRepository;
+    private ScrollPosition middlePosition;
+    private long studentId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = JpaSlice.start(new Class<?>[0]);
+        complaintRepository = context.getBean(ComplaintRepository.class);
+        seed(context.getBean(JdbcTemplate.class), Fixtures.complaints(rows));
+
+        Complaint middle = complaintRepository
+                .findAllByOrderByCreatedAtDescIdDesc(ScrollPosition.keyset(), Limit.of(rows / 2), Complaint.class)
+                .getContent().get(rows / 2 - 1);
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put("createdAt", middle.getCreatedAt());
+        keys.put("id", middle.getId());
+        middlePosition = ScrollPosition.forward(keys);
+        studentId = middle.getStudentId();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    static void seed(JdbcTemplate jdbcTemplate, List<Complaint> complaints) {
+        String sql = "INSERT INTO complaints (title, description, category, priority, status, student_id, "
+                + "student_name, room_number, assigned_to_admin_id, admin_response, created_at, updated_at, "
+                + "resolved_at, version) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        for (int from = 0; from < complaints.size(); from += INSERT_BATCH) {
+            List<Complaint> batch = complaints.subList(from, Math.min(from + INSERT_BATCH, complaints.size()));
+            jdbcTemplate.batchUpdate(sql, batch, batch.size(), (ps, c) -> {
+                ps.setString(1, c.getTitle());
+                ps.setString(2, c.getDescription());
+                ps.setString(3, c.getCategory().name());
+                ps.setString(4, c.getPriority().name());
+                ps.setString(5, c.getStatus().name());
+                ps.setLong(6, c.getStudentId());
+                ps.setString(7, c.getStudentName());
+                ps.setString(8, c.getRoomNumber());
+                ps.setObject(9, c.getAssignedToAdminId());
+                ps.setString(10, c.getAdminResponse());
+                ps.setTimestamp(11, Timestamp.valueOf(c.getCreatedAt()));
+                ps.setTimestamp(12, Timestamp.valueOf(c.getUpdatedAt()));
+                ps.setTimestamp(13, c.getResolvedAt() != null ? Timestamp.valueOf(c.getResolvedAt()) : null);
+                ps.setLong(14, c.getVersion());
+            });
+        }
+    }
+
+    @Benchmark
+    public Window<ComplaintSummary> firstPageAll() {
+        return complaintRepository.findAllByOrderByCreatedAtDescIdDesc(
+                ScrollPosition.keyset(), Limit.of(PAGE_SIZE), ComplaintSummary.class);
+    }
+
+    @Benchmark
+    public Window<ComplaintSummary> middlePageAll() {
+        return complaintRepository.findAllByOrderByCreatedAtDescIdDesc(
+                middlePosition, Limit.of(PAGE_SIZE), ComplaintSummary.class);
+    }
+
+    @Benchmark
+    public Window<ComplaintSummary> firstPageByStatus() {
+        return complaintRepository.findByStatusOrderByCreatedAtDescIdDesc(
+                Complaint.Status.PENDING, ScrollPosition.keyset(), Limit.of(PAGE_SIZE), ComplaintSummary.class);
+    }
+
+    @Benchmark
+    public Window<ComplaintSummary> firstPageByStudent() {
+        return complaintRepository.findByStudentIdOrderByCreatedAtDescIdDesc(
+                studentId, ScrollPosition.keyset(), Limit.of(PAGE_SIZE), ComplaintSummary.class);
+    }
+
+    /** The pre-pagination student read, kept as a baseline for the keyset/projection variant above. */
+    @Benchmark
+    public List<Complaint> allEntitiesByStudent() {
+        return complaintRepository.findByStudentIdOrderByCreatedAtDesc(studentId);
+    }
+
+    @Benchmark
+    public List<Object[]> countByStatusCategoryPriority() {
+        return complaintRepository.countByStatusCategoryPriority();
+    }
+
+    @Benchmark
+    public ChangeProbe probeAll() {
+        return complaintRepository.probe(null, null, null, null);
+    }
+
+    @Benchmark
+    public ChangeProbe probeByStudent() {
+        return complaintRepository.probe(null, null, studentId, null);
+    }
+}
@@ -0,0 +1,91 @@
+package com.hostel.complaint.benchmark;
+
+import com.hostel.complaint.entity.Complaint;
+import com.hostel.complaint.event.ComplaintEvent;
+import com.hostel.complaint.search.ComplaintSearchIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Query latency of {@link ComplaintSearchIndex} for the first page of
+ * results. Complaint text is drawn from a Zipf-like vocabulary so that a few
+ * words ("room", "water") appear in most complaints and the rest are rare,
+ * which is the shape where top-k pruning matters. Run with
+ * {@code -bm sample} to get p50/p99 instead of the mean.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class ComplaintSearchBenchmark {
+
+    private static final String[] VOCABULARY = {
+            "room", "water", "fan", "light", "bathroom", "door", "window", "noise", "leak", "broken",
+            "mess", "food", "cold", "hot", "wifi", "bed", "lock", "tap", "shower", "floor",
+            "ceiling", "switch", "socket", "geyser", "mattress", "curtain", "cupboard", "mirror", "drain", "pipe",
+            "cockroach", "mosquito", "laundry", "corridor", "staircase", "lift", "generator", "cooler", "heater", "router"
+    };
+
+    @Param({"100000", "1000000"})
+    public int rows;
+
+    private ComplaintSearchIndex index;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        index = new ComplaintSearchIndex();
+        SplittableRandom random = new SplittableRandom(42);
+        for (Complaint complaint : Fixtures.complaints(rows)) {
+            complaint.setTitle(words(random, 4));
+            complaint.setDescription(words(random, 20));
+            index.onComplaintEvent(ComplaintEvent.created(complaint));
+        }
+    }
+
+    @Benchmark
+    public List<Long> commonTerm() {
+        return index.search("room", 0, 20).getIds();
+    }
+
+    @Benchmark
+    public List<Long> rareTerm() {
+        return index.search("router", 0, 20).getIds();
+    }
+
+    @Benchmark
+    public List<Long> commonAndRareTerms() {
+        return index.search("water leak cockroach", 0, 20).getIds();
+    }
+
+    @Benchmark
+    public List<Long> commonTerms() {
+        return index.search("room water fan light", 0, 20).getIds();
+    }
+
+    // Word i is picked with probability proportional to 1 / (i + 1)
+    private static String words(SplittableRandom random, int count) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            double u = random.nextDouble();
+            int word = (int) Math.min(VOCABULARY.length - 1, Math.floor(Math.exp(u * Math.log(VOCABULARY.length + 1)) - 1));
+            text.append(VOCABULARY[word]).append(' ');
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,161 @@
+package com.hostel.complaint.benchmark;
+
+import com.hostel.complaint.firebase.FirebaseGateway;
+import com.hostel.complaint.security.FirebaseAuthenticationFilter;
+import com.hostel.complaint.security.FirebaseTokenCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of the Firebase backend's authentication filter once the
+ * token is in {@link FirebaseTokenCache}, which is the steady state for a
+ * signed-in client. The Firebase gateway is a stub that is only hit during
+ * setup, so the numbers cover the filter and cache alone. Run with {@code -prof gc} to
+ * get bytes allocated per request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FirebaseAuthenticationFilterBenchmark {
+
+    private static final String STUDENT_TOKEN = "student-id-token";
+    private static final String ADMIN_TOKEN = "admin-id-token";
+
+    private FirebaseTokenCache tokenCache;
+    private FirebaseAuthenticationFilter filter;
+
+    private MockHttpServletRequest studentRequest;
+    private MockHttpServletRequest adminRequest;
+    private MockHttpServletRequest anonymousRequest;
+    private MockHttpServletResponse response;
+
+    private final FilterChain chain = (request, response) -> SecurityContextHolder.clearContext();
+
+    @Setup(Level.Trial)
+    public void setUp() throws ServletException, IOException {
+        long expiresAt = System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1);
+        Map<String, FirebaseTokenCache.VerifiedToken> tokens = Map.of(
+                STUDENT_TOKEN, new FirebaseTokenCache.VerifiedToken("student_uid", "student@hostel.edu", expiresAt),
+                ADMIN_TOKEN, new FirebaseTokenCache.VerifiedToken("admin_user_uid", "admin@hostel.edu", expiresAt));
+
+        tokenCache = new FirebaseTokenCache();
+        ReflectionTestUtils.setField(tokenCache, "firebaseGateway", new StubGateway(tokens));
+        ReflectionTestUtils.setField(tokenCache, "maxEntries", 10_000);
+        ReflectionTestUtils.setField(tokenCache, "sweepIntervalMs", TimeUnit.HOURS.toMillis(1));
+        tokenCache.start();
+
+        filter = new FirebaseAuthenticationFilter();
+        ReflectionTestUtils.setField(filter, "firebaseTokenCache", tokenCache);
+        ReflectionTestUtils.setField(filter, "meterRegistry", new SimpleMeterRegistry());
+
+        studentRequest = request("/api/complaints", STUDENT_TOKEN);
+        adminRequest = request("/api/complaints", ADMIN_TOKEN);
+        anonymousRequest = request("/api/health", null);
+        response = new MockHttpServletResponse();
+
+        // Populate the cache so the measured calls never reach FirebaseAuth
+        filter.doFilter(studentRequest, response, chain);
+        filter.doFilter(adminRequest, response, chain);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        tokenCache.stop();
+    }
+
+    // Only verifyIdToken is reachable from the filter
+    private static final class StubGateway implements FirebaseGateway {
+        private final Map<String, FirebaseTokenCache.VerifiedToken> tokens;
+
+        private StubGateway(Map<String, FirebaseTokenCache.VerifiedToken> tokens) {
+            this.tokens = tokens;
+        }
+
+        @Override
+        public FirebaseTokenCache.VerifiedToken verifyIdToken(String idToken) {
+            return tokens.get(idToken);
+        }
+
+        @Override
+        public String createCustomToken(String uid) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Account getUser(String uid) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public CompletableFuture<Account> getUserAsync(String uid) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public CompletableFuture<Account> createUserAsync(String email, String password, String displayName) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public CompletableFuture<Void> saveUserDocument(String uid, Map<String, Object> document) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void checkHealth() {
+        }
+    }
+
+    private static MockHttpServletRequest request(String uri, String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        request.setRemoteAddr("10.0.0.1");
+        if (token != null) {
+            request.addHeader("Authorization", "Bearer " + token);
+        }
+        return request;
+    }
+
+    @Benchmark
+    public int studentRequest() throws ServletException, IOException {
+        filter.doFilter(studentRequest, response, chain);
+        return response.getStatus();
+    }
+
+    @Benchmark
+    public int adminRequest() throws ServletException, IOException {
+        filter.doFilter(adminRequest, response, chain);
+        return response.getStatus();
+    }
+
+    /** Public endpoint skipped by shouldNotFilter; the floor for the filter's fixed overhead. */
+    @Benchmark
+    public int publicRequest() throws ServletException, IOException {
+        filter.doFilter(anonymousRequest, response, chain);
+        return response.getStatus();
+    }
+}
@@ -0,0 +1,62 @@
+package com.hostel.complaint.benchmark;
+
+import com.hostel.complaint.entity.Complaint;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic test data shared by the benchmarks. Field lengths roughly
+ * follow what the frontend submits so serialized sizes are realistic.
+ */
+final class Fixtures {
+
+    static final String JWT_SECRET = "benchmarkSecretKeyThatIsLongEnoughForHmacSha256Signing";
+    static final long JWT_EXPIRATION_MS = 86_400_000L;
+
+    static final int STUDENTS = 500;
+    static final int ADMINS = 5;
+
+    private static final String DESCRIPTION =
+            "The ceiling fan in the room makes a loud grinding noise and stops after a few minutes. "
+            + "It has been like this for three days and the room gets very hot at night.";
+
+    private Fixtures() {
+    }
+
+    static List<Complaint> complaints(int count) {
+        SplittableRandom random = new SplittableRandom(42);
+        Complaint.Category[] categories = Complaint.Category.values();
+        Complaint.Priority[] priorities = Complaint.Priority.values();
+        Complaint.Status[] statuses = Complaint.Status.values();
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+        List<Complaint> complaints = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long studentId = 1 + random.nextInt(STUDENTS);
+            Complaint.Status status = statuses[random.nextInt(statuses.length)];
+            LocalDateTime createdAt = start.plusMinutes(i * 7L);
+
+            Complaint complaint = new Complaint();
+            complaint.setId((long) i + 1);
+            complaint.setTitle("Fan not working in room " + (100 + studentId % 300));
+            complaint.setDescription(DESCRIPTION);
+            complaint.setCategory(categories[random.nextInt(categories.length)]);
+            complaint.setPriority(priorities[random.nextInt(priorities.length)]);
+            complaint.setStatus(status);
+            complaint.setStudentId(studentId);
+            complaint.setStudentName("Student " + studentId);
+            complaint.setRoomNumber(String.valueOf(100 + studentId % 300));
+            complaint.setAssignedToAdminId(status == Complaint.Status.PENDING ? null : 1 + (long) random.nextInt(ADMINS));
+            complaint.setAdminResponse(status == Complaint.Status.RESOLVED ? "Technician replaced the fan motor." : null);
+            complaint.setCreatedAt(createdAt);
+            complaint.setUpdatedAt(createdAt.plusHours(random.nextInt(72)));
+            complaint.setResolvedAt(status == Complaint.Status.RESOLVED ? complaint.getUpdatedAt() : null);
+            complaint.setVersion(0L);
+            complaints.add(complaint);
+        }
+        return complaints;
+    }
+}
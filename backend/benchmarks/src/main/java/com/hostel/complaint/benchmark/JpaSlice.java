@@ -0,0 +1,50 @@
+package com.hostel.complaint.benchmark;
+
+import com.hostel.complaint.entity.Complaint;
+import com.hostel.complaint.repository.ComplaintRepository;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration;
+import org.springframework.boot.autoconfigure.security.servlet.UserDetailsServiceAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The persistence layer of the s_backend on an in-memory H2 database: JPA,
+ * repositories, JDBC and transactions, but no web layer, security or
+ * application listeners unless a benchmark adds them as extra sources.
+ */
+@SpringBootConfiguration
+@EnableAutoConfiguration(exclude = {SecurityAutoConfiguration.class, UserDetailsServiceAutoConfiguration.class})
+@EntityScan(basePackageClasses = Complaint.class)
+@EnableJpaRepositories(basePackageClasses = ComplaintRepository.class)
+class JpaSlice {
+
+    static ConfigurableApplicationContext start(Class<?>[] extraSources, String... extraProperties) {
+        List<String> properties = new ArrayList<>(List.of(
+                "spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+                "spring.datasource.username=sa",
+                "spring.datasource.password=",
+                "spring.jpa.hibernate.ddl-auto=create-drop",
+                "spring.jpa.open-in-view=false",
+                "spring.main.banner-mode=off",
+                "logging.level.root=WARN"));
+        properties.addAll(Arrays.asList(extraProperties));
+
+        Class<?>[] sources = new Class<?>[extraSources.length + 1];
+        sources[0] = JpaSlice.class;
+        System.arraycopy(extraSources, 0, sources, 1, extraSources.length);
+
+        return new SpringApplicationBuilder(sources)
+                .web(WebApplicationType.NONE)
+                .properties(properties.toArray(new String[0]))
+                .run();
+    }
+}
@@ -0,0 +1,72 @@
+package com.hostel.complaint.benchmark;
+
+import com.hostel.complaint.security.JwtTokenProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of issuing and checking JWTs. With {@code cached=false} the verified
+ * token cache is disabled so every call pays for HMAC verification and claim
+ * parsing; with {@code cached=true} the steady-state hit path is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtTokenProviderBenchmark {
+
+    @Param({"true", "false"})
+    public boolean cached;
+
+    private JwtTokenProvider tokenProvider;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        tokenProvider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(tokenProvider, "jwtSecret", Fixtures.JWT_SECRET);
+        ReflectionTestUtils.setField(tokenProvider, "jwtExpiration", Fixtures.JWT_EXPIRATION_MS);
+        ReflectionTestUtils.setField(tokenProvider, "cacheMaxEntries", cached ? 10_000 : 0);
+        tokenProvider.init();
+
+        token = tokenProvider.generateTokenFromEmail("student42@hostel.edu");
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return tokenProvider.generateTokenFromEmail("student42@hostel.edu");
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return tokenProvider.validateToken(token);
+    }
+
+    @Benchmark
+    public String getEmailFromToken() {
+        return tokenProvider.getEmailFromToken(token);
+    }
+
+    /** What JwtAuthenticationFilter does per request: one validation pass, then the subject. */
+    @Benchmark
+    public String validateThenGetEmail() {
+        return tokenProvider.validateAndGetClaims(token)
+                .map(claims -> claims.getSubject())
+                .orElse(null);
+    }
+}
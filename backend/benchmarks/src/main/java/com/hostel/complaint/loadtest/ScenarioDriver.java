@@ -0,0 +1,232 @@
+package com.hostel.complaint.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Closed-loop load driver for the Firebase backend running with the
+ * {@code loadtest} profile. Each simulated student registers, obtains an ID
+ * token from the stand-in, logs in with it and submits complaints; a fixed
+ * number of students run concurrently. Prints and writes per-endpoint
+ * throughput, error counts and latency percentiles.
+ *
+ * <pre>
+ * java -cp target/benchmarks.jar com.hostel.complaint.loadtest.ScenarioDriver \
+ *     --base-url http://localhost:3001 --students 1000 --concurrency 100 --complaints 3
+ * </pre>
+ *
+ * Run it once against the default profile and once against
+ * {@code loadtest,virtual-threads} to compare the two thread models.
+ */
+public class ScenarioDriver {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private final String baseUrl;
+    private final int students;
+    private final int concurrency;
+    private final int complaintsPerStudent;
+    private final String complaintPath;
+    private final String runId = Long.toString(System.currentTimeMillis(), 36);
+
+    private final HttpClient httpClient;
+    private final Map<String, EndpointStats> stats = new ConcurrentHashMap<>();
+
+    ScenarioDriver(String baseUrl, int students, int concurrency, int complaintsPerStudent, String complaintPath) {
+        this.baseUrl = baseUrl;
+        this.students = students;
+        this.concurrency = concurrency;
+        this.complaintsPerStudent = complaintsPerStudent;
+        this.complaintPath = complaintPath;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newFixedThreadPool(Math.max(4, concurrency / 4)))
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseOptions(args);
+        ScenarioDriver driver = new ScenarioDriver(
+                options.getOrDefault("base-url", "http://localhost:3001"),
+                Integer.parseInt(options.getOrDefault("students", "200")),
+                Integer.parseInt(options.getOrDefault("concurrency", "50")),
+                Integer.parseInt(options.getOrDefault("complaints", "3")),
+                options.getOrDefault("complaint-path", "/api/complaints"));
+
+        Map<String, Object> report = driver.run();
+        File out = new File(options.getOrDefault("out", "loadtest-result.json"));
+        objectMapper.writeValue(out, report);
+        System.out.println("Results written to " + out.getAbsolutePath());
+        System.exit(0);
+    }
+
+    Map<String, Object> run() throws InterruptedException {
+        ExecutorService users = Executors.newFixedThreadPool(concurrency);
+        long start = System.nanoTime();
+        for (int i = 0; i < students; i++) {
+            int student = i;
+            users.execute(() -> simulateStudent(student));
+        }
+        users.shutdown();
+        users.awaitTermination(1, TimeUnit.HOURS);
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+
+        Map<String, Object> endpoints = new TreeMap<>();
+        System.out.printf("%n%d students, concurrency %d, %.1fs%n", students, concurrency, elapsedSeconds);
+        System.out.printf("%-28s %8s %8s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "max ms");
+        new TreeMap<>(stats).forEach((endpoint, endpointStats) -> {
+            Map<String, Object> summary = endpointStats.summarize(elapsedSeconds);
+            endpoints.put(endpoint, summary);
+            System.out.printf("%-28s %8d %8d %9.1f %9.1f %9.1f %9.1f %9.1f%n", endpoint,
+                    summary.get("requests"), summary.get("errors"), summary.get("throughputPerSecond"),
+                    summary.get("p50Ms"), summary.get("p90Ms"), summary.get("p99Ms"), summary.get("maxMs"));
+        });
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("baseUrl", baseUrl);
+        report.put("students", students);
+        report.put("concurrency", concurrency);
+        report.put("complaintsPerStudent", complaintsPerStudent);
+        report.put("elapsedSeconds", elapsedSeconds);
+        report.put("endpoints", endpoints);
+        return report;
+    }
+
+    private void simulateStudent(int student) {
+        String email = "lt-" + runId + "-" + student + "@hostel.test";
+        String password = "Passw0rd!" + student;
+
+        Map<String, Object> registration = new HashMap<>();
+        registration.put("name", "Load Test Student " + student);
+        registration.put("email", email);
+        registration.put("password", password);
+        registration.put("mobile", "9000000000");
+        registration.put("studentId", "LT" + student);
+        registration.put("roomNumber", String.valueOf(100 + student % 300));
+        registration.put("block", "A");
+        if (call("POST /api/auth/register", "/api/auth/register", registration, null) == null) {
+            return;
+        }
+
+        JsonNode signIn = call("POST /api/public/loadtest/sign-in", "/api/public/loadtest/sign-in",
+                Map.of("email", email, "password", password), null);
+        if (signIn == null || !signIn.hasNonNull("idToken")) {
+            return;
+        }
+        String idToken = signIn.get("idToken").asText();
+
+        if (call("POST /api/auth/login-with-token", "/api/auth/login-with-token",
+                Map.of("idToken", idToken), null) == null) {
+            return;
+        }
+
+        for (int i = 0; i < complaintsPerStudent; i++) {
+            Map<String, Object> complaint = new HashMap<>();
+            complaint.put("title", "Load test complaint " + i);
+            complaint.put("description", "Generated by the scenario driver to exercise complaint submission.");
+            complaint.put("category", "MAINTENANCE");
+            complaint.put("priority", "MEDIUM");
+            call("POST " + complaintPath, complaintPath, complaint, idToken);
+        }
+    }
+
+    // Returns the parsed body of a 2xx response, or null after recording the failure
+    private JsonNode call(String endpoint, String path, Object body, String bearerToken) {
+        EndpointStats endpointStats = stats.computeIfAbsent(endpoint, key -> new EndpointStats());
+        long start = System.nanoTime();
+        try {
+            HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .timeout(Duration.ofSeconds(30))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)));
+            if (bearerToken != null) {
+                request.header("Authorization", "Bearer " + bearerToken);
+            }
+            HttpResponse<byte[]> response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+            endpointStats.record(System.nanoTime() - start, String.valueOf(response.statusCode()));
+
+            if (response.statusCode() / 100 != 2) {
+                return null;
+            }
+            return response.body().length > 0
+                    ? objectMapper.readTree(response.body())
+                    : objectMapper.createObjectNode();
+        } catch (IOException e) {
+            endpointStats.record(System.nanoTime() - start, e.getClass().getSimpleName());
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            if (!args[i].startsWith("--")) {
+                throw new IllegalArgumentException("Expected --option value pairs, got " + Arrays.toString(args));
+            }
+            options.put(args[i].substring(2), args[i + 1]);
+        }
+        return options;
+    }
+
+    private static final class EndpointStats {
+        private final List<Long> latencies = new ArrayList<>();
+        private final Map<String, Integer> outcomes = new TreeMap<>();
+        private int errors;
+
+        synchronized void record(long nanos, String outcome) {
+            latencies.add(nanos);
+            outcomes.merge(outcome, 1, Integer::sum);
+            if (!outcome.startsWith("2")) {
+                errors++;
+            }
+        }
+
+        synchronized Map<String, Object> summarize(double elapsedSeconds) {
+            long[] sorted = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("requests", sorted.length);
+            summary.put("errors", errors);
+            summary.put("throughputPerSecond", sorted.length / elapsedSeconds);
+            summary.put("p50Ms", percentileMs(sorted, 0.50));
+            summary.put("p90Ms", percentileMs(sorted, 0.90));
+            summary.put("p99Ms", percentileMs(sorted, 0.99));
+            summary.put("maxMs", sorted.length > 0 ? sorted[sorted.length - 1] / 1e6 : 0.0);
+            summary.put("outcomes", new TreeMap<>(outcomes));
+            return summary;
+        }
+
+        private static double percentileMs(long[] sorted, double percentile) {
+            if (sorted.length == 0) {
+                return 0.0;
+            }
+            int index = (int) Math.ceil(percentile * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1e6;
+        }
+    }
+}
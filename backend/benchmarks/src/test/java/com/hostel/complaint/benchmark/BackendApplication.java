@@ -0,0 +1,23 @@
+package com.hostel.complaint.benchmark;
+
+import com.hostel.complaint.ComplaintManagementApplication;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+
+/**
+ * The s_backend application without the Firebase backend's classes that
+ * share its packages on this classpath, for tests that boot it whole.
+ */
+@SpringBootConfiguration
+@EnableAutoConfiguration
+@ComponentScan(basePackageClasses = ComplaintManagementApplication.class, excludeFilters = @ComponentScan.Filter(
+        type = FilterType.REGEX, pattern = {
+                "com\\.hostel\\.complaint\\.ComplaintManagementApplication",
+                "com\\.hostel\\.complaint\\.firebase\\..*",
+                "com\\.hostel\\.complaint\\.security\\.Firebase.*",
+                "com\\.hostel\\.complaint\\.benchmark\\..*",
+                "com\\.hostel\\.complaint\\.loadtest\\..*"}))
+class BackendApplication {
+}
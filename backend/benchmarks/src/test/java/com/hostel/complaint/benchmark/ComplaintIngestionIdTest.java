@@ -0,0 +1,71 @@
+package com.hostel.complaint.benchmark;
+
+import com.hostel.complaint.entity.Complaint;
+import com.hostel.complaint.repository.ComplaintRepository;
+import com.hostel.complaint.service.ComplaintIngestionService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Batched ingestion takes its ids from the database, so complaints it
+ * writes never collide with complaints saved through JPA in between.
+ */
+class ComplaintIngestionIdTest {
+
+    private static ConfigurableApplicationContext context;
+    private static ComplaintIngestionService ingestionService;
+    private static ComplaintRepository complaintRepository;
+
+    @BeforeAll
+    static void start() {
+        context = JpaSlice.start(new Class<?>[] {ComplaintIngestionService.class},
+                "complaints.ingestion.batched=true",
+                "complaints.ingestion.batch-size=50",
+                "complaints.ingestion.max-delay-ms=5");
+        ingestionService = context.getBean(ComplaintIngestionService.class);
+        complaintRepository = context.getBean(ComplaintRepository.class);
+    }
+
+    @AfterAll
+    static void close() {
+        context.close();
+    }
+
+    @Test
+    void batchedAndDirectCreatesGetDistinctStoredIds() {
+        List<Complaint> direct = new ArrayList<>();
+        List<CompletableFuture<Complaint>> batched = new ArrayList<>();
+        for (Complaint complaint : Fixtures.complaints(200)) {
+            complaint.setId(null);
+            complaint.setVersion(null);
+            if (direct.size() < batched.size()) {
+                direct.add(complaintRepository.save(complaint));
+            } else {
+                batched.add(ingestionService.submit(complaint));
+            }
+        }
+
+        Set<Long> ids = new HashSet<>();
+        direct.forEach(complaint -> ids.add(complaint.getId()));
+        for (CompletableFuture<Complaint> result : batched) {
+            Complaint complaint = result.join();
+            assertThat(complaintRepository.findById(complaint.getId()))
+                    .get()
+                    .extracting(Complaint::getTitle, Complaint::getStudentId)
+                    .containsExactly(complaint.getTitle(), complaint.getStudentId());
+            ids.add(complaint.getId());
+        }
+        assertThat(ids).hasSize(200).doesNotContainNull();
+        assertThat(complaintRepository.count()).isEqualTo(200);
+    }
+}
@@ -0,0 +1,159 @@
+package com.hostel.complaint.benchmark;
+
+import com.hostel.complaint.entity.Complaint;
+import com.hostel.complaint.repository.ComplaintRepository;
+import com.hostel.complaint.search.ComplaintSearchIndex;
+import com.hostel.complaint.service.ComplaintConflictException;
+import com.hostel.complaint.service.ComplaintCounters;
+import com.hostel.complaint.service.ComplaintService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * The optimistic-locking contract of {@link ComplaintService} updates: of
+ * two writers holding the same version exactly one wins and the other gets
+ * the conflict the controller turns into a 409. Writers that send no
+ * version are guarded on the version they read.
+ */
+class ComplaintUpdateConcurrencyTest {
+
+    private static ConfigurableApplicationContext context;
+    private static ComplaintService complaintService;
+    private static ComplaintRepository complaintRepository;
+
+    @BeforeAll
+    static void start() {
+        context = JpaSlice.start(new Class<?>[] {ComplaintService.class, ComplaintCounters.class,
+                ComplaintSearchIndex.class});
+        complaintService = context.getBean(ComplaintService.class);
+        complaintRepository = context.getBean(ComplaintRepository.class);
+    }
+
+    @AfterAll
+    static void close() {
+        context.close();
+    }
+
+    @Test
+    void twoWritersOnTheSameVersionConflict() throws Exception {
+        Complaint complaint = newComplaint();
+        long version = complaint.getVersion();
+
+        ExecutorService writers = Executors.newFixedThreadPool(2);
+        CountDownLatch go = new CountDownLatch(1);
+        try {
+            List<Future<Complaint>> results = new ArrayList<>();
+            for (Complaint.Status status : List.of(Complaint.Status.IN_PROGRESS, Complaint.Status.RESOLVED)) {
+                results.add(writers.submit(() -> {
+                    go.await();
+                    return complaintService.updateComplaintStatus(complaint.getId(), status, "On it", version);
+                }));
+            }
+            go.countDown();
+
+            int won = 0;
+            int conflicted = 0;
+            for (Future<Complaint> result : results) {
+                try {
+                    assertThat(result.get().getVersion()).isEqualTo(version + 1);
+                    won++;
+                } catch (Exception e) {
+                    assertThat(e.getCause()).isInstanceOf(ComplaintConflictException.class);
+                    conflicted++;
+                }
+            }
+            assertThat(won).isEqualTo(1);
+            assertThat(conflicted).isEqualTo(1);
+        } finally {
+            writers.shutdownNow();
+        }
+
+        assertThat(complaintRepository.findById(complaint.getId()).orElseThrow().getVersion()).isEqualTo(version + 1);
+    }
+
+    @Test
+    void writersWithoutAVersionAreGuardedOnTheVersionTheyRead() throws Exception {
+        Complaint complaint = newComplaint();
+        long version = complaint.getVersion();
+
+        ExecutorService writers = Executors.newFixedThreadPool(8);
+        CountDownLatch go = new CountDownLatch(1);
+        try {
+            List<Future<Complaint>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                String response = "Writer " + i;
+                results.add(writers.submit(() -> {
+                    go.await();
+                    return complaintService.updateComplaintStatus(complaint.getId(), Complaint.Status.IN_PROGRESS,
+                            response, null);
+                }));
+            }
+            go.countDown();
+
+            // Every write that reports success bumped the version once, so none was overwritten unseen
+            Set<Long> versions = new HashSet<>();
+            for (Future<Complaint> result : results) {
+                try {
+                    versions.add(result.get().getVersion());
+                } catch (Exception e) {
+                    assertThat(e.getCause()).isInstanceOf(ComplaintConflictException.class);
+                }
+            }
+            assertThat(versions).isNotEmpty();
+            assertThat(complaintRepository.findById(complaint.getId()).orElseThrow().getVersion())
+                    .isEqualTo(version + versions.size());
+        } finally {
+            writers.shutdownNow();
+        }
+    }
+
+    @Test
+    void returnsThePostImageOfTheUpdate() {
+        Complaint complaint = newComplaint();
+
+        Complaint updated = complaintService.updateComplaintStatus(complaint.getId(), Complaint.Status.RESOLVED,
+                "Replaced the fan", complaint.getVersion());
+
+        Complaint stored = complaintRepository.findById(complaint.getId()).orElseThrow();
+        assertThat(updated.getStatus()).isEqualTo(Complaint.Status.RESOLVED).isEqualTo(stored.getStatus());
+        assertThat(updated.getAdminResponse()).isEqualTo("Replaced the fan").isEqualTo(stored.getAdminResponse());
+        assertThat(updated.getVersion()).isEqualTo(stored.getVersion());
+        assertThat(stored.getResolvedAt()).isNotNull();
+        assertThat(updated.getTitle()).isEqualTo(stored.getTitle());
+    }
+
+    @Test
+    void staleVersionConflictsAndMissingComplaintIsNotFound() {
+        Complaint complaint = newComplaint();
+        complaintService.updateComplaintStatus(complaint.getId(), Complaint.Status.IN_PROGRESS, null,
+                complaint.getVersion());
+
+        assertThatThrownBy(() -> complaintService.updateComplaintStatus(complaint.getId(),
+                Complaint.Status.RESOLVED, null, complaint.getVersion()))
+                .isInstanceOf(ComplaintConflictException.class);
+        assertThatThrownBy(() -> complaintService.updateComplaintStatus(-1L, Complaint.Status.RESOLVED, null, 0L))
+                .isNotInstanceOf(ComplaintConflictException.class)
+                .hasMessage("Complaint not found");
+    }
+
+    private static Complaint newComplaint() {
+        Complaint complaint = Fixtures.complaints(1).get(0);
+        complaint.setId(null);
+        complaint.setVersion(null);
+        return complaintService.createComplaint(complaint);
+    }
+}
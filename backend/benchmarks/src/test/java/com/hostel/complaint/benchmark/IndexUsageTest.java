@@ -0,0 +1,251 @@
+package com.hostel.complaint.benchmark;
+
+import com.hostel.complaint.dto.ComplaintSummary;
+import com.hostel.complaint.entity.Complaint;
+import com.hostel.complaint.entity.User;
+import com.hostel.complaint.repository.ComplaintRepository;
+import com.hostel.complaint.repository.UserRepository;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs each filtered repository query against a seeded H2 database and
+ * asserts from EXPLAIN that the intended index answers it, so a renamed
+ * column or reworded query cannot silently fall back to a table scan.
+ *
+ * The SQL checked is what Hibernate actually sent, captured through
+ * datasource-proxy and re-run with its bound parameters. Only filtered
+ * shapes are pinned: H2 uses an index for ORDER BY only when the sort
+ * direction matches, so the unfiltered created_at DESC listing (served on
+ * MySQL by a backward scan of idx_complaints_created) has nothing to assert
+ * here.
+ */
+class IndexUsageTest {
+
+    private static final int COMPLAINTS = 20_000;
+    private static final int USERS = 20_000;
+
+    private static final List<QueryInfo> CAPTURED = new CopyOnWriteArrayList<>();
+
+    private static ConfigurableApplicationContext context;
+    private static ComplaintRepository complaintRepository;
+    private static UserRepository userRepository;
+    private static DataSource dataSource;
+    private static TransactionTemplate readOnly;
+
+    @BeforeAll
+    static void seed() {
+        context = JpaSlice.start(new Class<?>[] {CaptureStatements.class});
+        complaintRepository = context.getBean(ComplaintRepository.class);
+        userRepository = context.getBean(UserRepository.class);
+        dataSource = context.getBean(DataSource.class);
+        readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        ComplaintRepositoryBenchmark.seed(jdbcTemplate, Fixtures.complaints(COMPLAINTS));
+        seedUsers(jdbcTemplate);
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @AfterAll
+    static void close() {
+        context.close();
+    }
+
+    @Test
+    void complaintFiltersUseTheirCompositeIndexes() {
+        assertUsesIndex("complaints", "IDX_COMPLAINTS_STATUS_CREATED", () -> complaintRepository
+                .findByStatusOrderByCreatedAtDescIdDesc(Complaint.Status.PENDING, ScrollPosition.keyset(),
+                        Limit.of(50), ComplaintSummary.class));
+        assertUsesIndex("complaints", "IDX_COMPLAINTS_CATEGORY_CREATED", () -> complaintRepository
+                .findByCategoryOrderByCreatedAtDescIdDesc(Complaint.Category.MAINTENANCE, ScrollPosition.keyset(),
+                        Limit.of(50), ComplaintSummary.class));
+        assertUsesIndex("complaints", "IDX_COMPLAINTS_STUDENT_CREATED", () -> complaintRepository
+                .findByStudentIdOrderByCreatedAtDescIdDesc(7L, ScrollPosition.keyset(),
+                        Limit.of(50), ComplaintSummary.class));
+        assertUsesIndex("complaints", "IDX_COMPLAINTS_ADMIN_", () -> complaintRepository
+                .findByAssignedToAdminIdOrderByCreatedAtDescIdDesc(2L, ScrollPosition.keyset(),
+                        Limit.of(50), ComplaintSummary.class));
+
+        assertUsesIndex("complaints", "IDX_COMPLAINTS_STATUS_CREATED",
+                () -> complaintRepository.findByStatus(Complaint.Status.IN_PROGRESS));
+        assertUsesIndex("complaints", "IDX_COMPLAINTS_CATEGORY_CREATED",
+                () -> complaintRepository.findByCategory(Complaint.Category.FOOD));
+        assertUsesIndex("complaints", "IDX_COMPLAINTS_STUDENT_CREATED",
+                () -> complaintRepository.findByStudentIdOrderByCreatedAtDesc(7L));
+        assertUsesIndex("complaints", "IDX_COMPLAINTS_ADMIN_",
+                () -> complaintRepository.findByAssignedToAdminId(2L));
+    }
+
+    @Test
+    void complaintProbesAndExportsUseTheFilterIndex() {
+        assertUsesIndex("complaints", "IDX_COMPLAINTS_STATUS_CREATED",
+                () -> complaintRepository.probe(Complaint.Status.PENDING, null, null, null));
+        assertUsesIndex("complaints", "IDX_COMPLAINTS_CATEGORY_CREATED",
+                () -> complaintRepository.probe(null, Complaint.Category.FOOD, null, null));
+        assertUsesIndex("complaints", "IDX_COMPLAINTS_STUDENT_CREATED",
+                () -> complaintRepository.probe(null, null, 7L, null));
+        assertUsesIndex("complaints", "IDX_COMPLAINTS_ADMIN_",
+                () -> complaintRepository.probe(null, null, null, 2L));
+
+        assertUsesIndex("complaints", "IDX_COMPLAINTS_STATUS_CREATED",
+                () -> export(Complaint.Status.RESOLVED, null, null, null));
+        assertUsesIndex("complaints", "IDX_COMPLAINTS_CATEGORY_CREATED",
+                () -> export(null, Complaint.Category.MAINTENANCE, null, null));
+        assertUsesIndex("complaints", "IDX_COMPLAINTS_STUDENT_CREATED",
+                () -> export(null, null, 7L, null));
+        assertUsesIndex("complaints", "IDX_COMPLAINTS_ADMIN_",
+                () -> export(null, null, null, 2L));
+        // Combined filters may pick either index, as long as they do not scan
+        assertUsesIndex("complaints", "IDX_COMPLAINTS_",
+                () -> export(Complaint.Status.PENDING, Complaint.Category.FOOD, null, null));
+    }
+
+    @Test
+    void complaintLookupsByIdUseThePrimaryKey() {
+        assertUsesIndex("complaints", "PRIMARY_KEY",
+                () -> complaintRepository.findByIdIn(List.of(1L, 2L, 3L), ComplaintSummary.class));
+        assertUsesIndex("complaints", "PRIMARY_KEY", () -> complaintRepository.findUpdatedAtById(42L));
+    }
+
+    @Test
+    void userFiltersUseTheirIndexes() {
+        assertUsesIndex("users", "IDX_USERS_ROLE", () -> userRepository.findByRole(User.Role.ADMIN));
+        assertUsesIndex("users", "IDX_USERS_PARENT", () -> userRepository.findByParentId(3L));
+        assertUsesIndex("users", "IDX_USERS_STUDENT", () -> userRepository.findByStudentId(11L));
+        assertUsesIndex("users", "IDX_USERS_ROLE", () -> userRepository.probeByRole(User.Role.PARENT));
+        // Unique constraints get generated index names; it is enough that neither scans
+        assertUsesIndex("users", null, () -> userRepository.findByEmail("student101@hostel.test"));
+        assertUsesIndex("users", null, () -> userRepository.findByFirebaseUid("uid-100"));
+    }
+
+    // The export stream only runs inside a transaction
+    private static void export(Complaint.Status status, Complaint.Category category, Long studentId, Long adminId) {
+        readOnly.executeWithoutResult(transaction -> {
+            try (Stream<Complaint> complaints = complaintRepository.streamForExport(status, category, studentId, adminId)) {
+                complaints.findFirst();
+            }
+        });
+    }
+
+    /**
+     * Runs {@code query}, then EXPLAINs the first statement it sent against
+     * {@code table}. The plan must not scan the table and, when
+     * {@code index} is given, must name an index starting with it.
+     */
+    private static void assertUsesIndex(String table, String index, Runnable query) {
+        CAPTURED.clear();
+        query.run();
+        QueryInfo sent = CAPTURED.stream()
+                .filter(info -> info.getQuery().toLowerCase(Locale.ROOT).contains(" from " + table))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No query against " + table + " was executed"));
+
+        String plan = explain(sent).toUpperCase(Locale.ROOT);
+        assertThat(plan)
+                .as("plan for %s", sent.getQuery())
+                .doesNotContain("PUBLIC." + table.toUpperCase(Locale.ROOT) + ".TABLESCAN");
+        if (index != null) {
+            assertThat(plan).as("plan for %s", sent.getQuery()).contains("PUBLIC." + index);
+        }
+    }
+
+    private static String explain(QueryInfo sent) {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sent.getQuery())) {
+            if (!sent.getParametersList().isEmpty()) {
+                for (ParameterSetOperation operation : sent.getParametersList().get(0)) {
+                    operation.getMethod().invoke(statement, operation.getArgs());
+                }
+            }
+            try (ResultSet plan = statement.executeQuery()) {
+                StringBuilder text = new StringBuilder();
+                while (plan.next()) {
+                    text.append(plan.getString(1)).append('\n');
+                }
+                return text.toString();
+            }
+        } catch (Exception e) {
+            throw new IllegalStateException("EXPLAIN failed for " + sent.getQuery(), e);
+        }
+    }
+
+    private static void seedUsers(JdbcTemplate jdbcTemplate) {
+        String sql = "INSERT INTO users (email, password, name, phone_number, role, firebase_uid, active, "
+                + "created_at, updated_at, parent_id, student_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        Timestamp now = Timestamp.valueOf(LocalDateTime.of(2024, 1, 1, 0, 0));
+        List<Object[]> rows = new ArrayList<>(USERS);
+        for (int i = 1; i <= USERS; i++) {
+            // 1 admin and 10 parents per 100 users; students point at a parent, parents at a student
+            User.Role role = i % 100 == 0 ? User.Role.ADMIN : i % 10 == 0 ? User.Role.PARENT : User.Role.STUDENT;
+            Long parentId = role == User.Role.STUDENT ? (long) (i / 10 * 10 + 10) : null;
+            Long studentId = role == User.Role.PARENT ? (long) (i - 1) : null;
+            rows.add(new Object[] {role.name().toLowerCase(Locale.ROOT) + i + "@hostel.test", "x", "User " + i,
+                    "9000000000", role.name(), "uid-" + i, true, now, now, parentId, studentId});
+        }
+        jdbcTemplate.batchUpdate(sql, rows);
+    }
+
+    @Configuration
+    static class CaptureStatements {
+
+        @Bean
+        static BeanPostProcessor captureStatementsPostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (bean instanceof DataSource && !(bean instanceof ProxyDataSource)) {
+                        return ProxyDataSourceBuilder.create((DataSource) bean)
+                                .name("index-usage")
+                                .listener(new CapturingListener())
+                                .build();
+                    }
+                    return bean;
+                }
+            };
+        }
+    }
+
+    private static final class CapturingListener implements QueryExecutionListener {
+
+        @Override
+        public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        }
+
+        @Override
+        public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            CAPTURED.addAll(queryInfoList);
+        }
+    }
+}
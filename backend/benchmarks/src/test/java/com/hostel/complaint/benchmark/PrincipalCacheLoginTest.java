@@ -0,0 +1,69 @@
+package com.hostel.complaint.benchmark;
+
+import com.hostel.complaint.entity.User;
+import com.hostel.complaint.repository.UserRepository;
+import com.hostel.complaint.security.CustomUserDetailsService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Password logins served from the principal cache: the authentication
+ * manager erases the credentials of the principal it returns, which must not
+ * reach the cached entry the next login of the same user is checked against.
+ */
+@SpringBootTest(classes = BackendApplication.class)
+@AutoConfigureMockMvc
+@TestPropertySource(
+        locations = "file:../s_backend/src/main/resources/application.properties",
+        properties = {
+                "spring.datasource.url=jdbc:h2:mem:principal-cache;DB_CLOSE_DELAY=-1",
+                "spring.jpa.show-sql=false",
+                "rate-limit.enabled=false",
+                "logging.level.root=WARN"
+        })
+class PrincipalCacheLoginTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private CustomUserDetailsService userDetailsService;
+
+    @Test
+    void sameUserLogsInTwiceInARow() throws Exception {
+        User user = new User();
+        user.setEmail("twice@hostel.test");
+        user.setPassword(passwordEncoder.encode("s3cret-pass"));
+        user.setName("Twice");
+        user.setPhoneNumber("9000000000");
+        user.setRole(User.Role.STUDENT);
+        userRepository.save(user);
+
+        long hitsBefore = (Long) userDetailsService.getCacheStats().get("hits");
+        for (int attempt = 0; attempt < 2; attempt++) {
+            mockMvc.perform(post("/api/auth/login").contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"email\":\"twice@hostel.test\",\"password\":\"s3cret-pass\"}"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.token").isNotEmpty());
+        }
+        // The second login was checked against the cached principal, not a fresh row
+        assertThat((Long) userDetailsService.getCacheStats().get("hits")).isGreaterThan(hitsBefore);
+    }
+}
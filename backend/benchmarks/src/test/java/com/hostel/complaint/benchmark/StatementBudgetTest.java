@@ -0,0 +1,240 @@
+package com.hostel.complaint.benchmark;
+
+import com.hostel.complaint.entity.Complaint;
+import com.hostel.complaint.entity.User;
+import com.hostel.complaint.metrics.RequestQueryMetricsFilter;
+import com.hostel.complaint.repository.ComplaintRepository;
+import com.hostel.complaint.repository.UserRepository;
+import com.hostel.complaint.security.JwtTokenProvider;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+
+/**
+ * Drives each budgeted s_backend route through the full filter chain and
+ * asserts that the statements it ran, as recorded by
+ * {@link RequestQueryMetricsFilter}, stay within the budget configured in
+ * {@code s_backend/src/main/resources/application.properties}. Async routes
+ * (the export stream and the CompletableFuture POST) are dispatched to
+ * completion, so statements run off the request thread are included; the
+ * SSE stream is recorded when its client goes away.
+ */
+@SpringBootTest(classes = BackendApplication.class)
+@AutoConfigureMockMvc
+@TestPropertySource(
+        locations = "file:../s_backend/src/main/resources/application.properties",
+        properties = {
+                "spring.datasource.url=jdbc:h2:mem:statement-budget;DB_CLOSE_DELAY=-1",
+                "spring.jpa.show-sql=false",
+                "rate-limit.enabled=false",
+                "users.import.chunk-size=50",
+                "security.password.bcrypt-strength=4",
+                "logging.level.root=WARN"
+        })
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class StatementBudgetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private RequestQueryMetricsFilter budgets;
+
+    @Autowired
+    private JwtTokenProvider tokenProvider;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ComplaintRepository complaintRepository;
+
+    private String token;
+    private User student;
+    private List<Complaint> complaints;
+
+    @BeforeAll
+    void seed() {
+        User admin = userRepository.save(user("admin@hostel.test", User.Role.ADMIN));
+        student = userRepository.save(user("student@hostel.test", User.Role.STUDENT));
+        complaints = new ArrayList<>();
+        for (Complaint complaint : Fixtures.complaints(30)) {
+            complaint.setId(null);
+            complaint.setVersion(null);
+            complaint.setStudentId(student.getId());
+            complaint.setAssignedToAdminId(admin.getId());
+            complaints.add(complaintRepository.save(complaint));
+        }
+        token = tokenProvider.generateTokenFromEmail(admin.getEmail());
+    }
+
+    @Test
+    void complaintReadsStayWithinBudget() throws Exception {
+        Complaint complaint = complaints.get(0);
+        call(get("/api/complaints"));
+        call(get("/api/complaints/search").param("q", "fan"));
+        call(get("/api/complaints/{id}", complaint.getId()));
+        call(get("/api/complaints/student/{studentId}", student.getId()));
+        call(get("/api/complaints/status/{status}", complaint.getStatus()));
+        call(get("/api/complaints/category/{category}", complaint.getCategory()));
+        call(get("/api/complaints/admin/{adminId}", complaint.getAssignedToAdminId()));
+        call(get("/api/complaints/stats"));
+        call(get("/api/complaints/export").param("format", "csv"));
+
+        assertWithinBudget("GET", "/api/complaints");
+        assertWithinBudget("GET", "/api/complaints/search");
+        assertWithinBudget("GET", "/api/complaints/{id}");
+        assertWithinBudget("GET", "/api/complaints/student/{studentId}");
+        assertWithinBudget("GET", "/api/complaints/status/{status}");
+        assertWithinBudget("GET", "/api/complaints/category/{category}");
+        assertWithinBudget("GET", "/api/complaints/admin/{adminId}");
+        assertWithinBudget("GET", "/api/complaints/stats");
+        assertWithinBudget("GET", "/api/complaints/export");
+    }
+
+    @Test
+    void complaintWritesStayWithinBudget() throws Exception {
+        Complaint complaint = complaints.get(0);
+        call(post("/api/complaints").contentType(MediaType.APPLICATION_JSON).content(
+                "{\"title\":\"Tap leaking\",\"description\":\"The tap drips all night\",\"category\":\"MAINTENANCE\","
+                        + "\"priority\":\"LOW\",\"studentId\":" + student.getId() + "}"));
+        call(put("/api/complaints/{id}/status", complaint.getId()).contentType(MediaType.APPLICATION_JSON)
+                .content("{\"status\":\"IN_PROGRESS\",\"version\":\"" + complaint.getVersion() + "\"}"));
+        call(post("/api/complaints/bulk").contentType(MediaType.APPLICATION_JSON).content(
+                "{\"ids\":[" + complaints.get(1).getId() + "," + complaints.get(2).getId() + "],"
+                        + "\"action\":\"SET_PRIORITY\",\"priority\":\"HIGH\"}"));
+        Complaint edited = complaintRepository.findById(complaints.get(3).getId()).orElseThrow();
+        call(put("/api/complaints/{id}", edited.getId()).contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\":\"Fan still broken\",\"version\":" + edited.getVersion() + "}"));
+        call(delete("/api/complaints/{id}", complaints.get(4).getId()));
+
+        assertWithinBudget("POST", "/api/complaints");
+        assertWithinBudget("PUT", "/api/complaints/{id}/status");
+        assertWithinBudget("POST", "/api/complaints/bulk");
+        assertWithinBudget("PUT", "/api/complaints/{id}");
+        assertWithinBudget("DELETE", "/api/complaints/{id}");
+    }
+
+    @Test
+    void complaintStreamStaysWithinBudget() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/complaints/stream")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)).andReturn();
+        assertThat(result.getRequest().isAsyncStarted()).isTrue();
+        // The stream never ends on its own; completing the async context is the client going away
+        result.getRequest().getAsyncContext().complete();
+
+        assertWithinBudget("GET", "/api/complaints/stream");
+    }
+
+    @Test
+    void userAndAnalyticsReadsStayWithinBudget() throws Exception {
+        call(get("/api/users"));
+        call(get("/api/users/{id}", student.getId()));
+        call(get("/api/users/role/{role}", "STUDENT"));
+        call(get("/api/analytics/resolution"));
+        call(get("/api/analytics/hotspots"));
+        call(get("/api/users/principal-cache/stats"));
+
+        assertWithinBudget("GET", "/api/users");
+        assertWithinBudget("GET", "/api/users/{id}");
+        assertWithinBudget("GET", "/api/users/role/{role}");
+        assertWithinBudget("GET", "/api/analytics/resolution");
+        assertWithinBudget("GET", "/api/analytics/hotspots");
+        assertWithinBudget("GET", "/api/users/principal-cache/stats");
+    }
+
+    @Test
+    void userWritesStayWithinBudget() throws Exception {
+        User edited = userRepository.save(user("edited@hostel.test", User.Role.STUDENT));
+        User deleted = userRepository.save(user("deleted@hostel.test", User.Role.STUDENT));
+        call(put("/api/users/{id}", edited.getId()).contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\":\"Edited\",\"phoneNumber\":\"9000000001\"}"));
+        call(put("/api/users/{id}/deactivate", edited.getId()));
+        call(put("/api/users/{id}/activate", edited.getId()));
+        call(delete("/api/users/{id}", deleted.getId()));
+
+        assertWithinBudget("PUT", "/api/users/{id}");
+        assertWithinBudget("PUT", "/api/users/{id}/deactivate");
+        assertWithinBudget("PUT", "/api/users/{id}/activate");
+        assertWithinBudget("DELETE", "/api/users/{id}");
+    }
+
+    @Test
+    void studentImportStaysWithinItsPerChunkBudget() throws Exception {
+        // 120 rows at users.import.chunk-size=50 is three chunks
+        StringBuilder csv = new StringBuilder("email,password,name,phoneNumber\n");
+        for (int i = 0; i < 120; i++) {
+            csv.append("imported").append(i).append("@hostel.test,pass-").append(i)
+                    .append(",Imported ").append(i).append(",9000000000\n");
+        }
+        call(multipart("/api/users/import").file(new MockMultipartFile("file", "students.csv", "text/csv",
+                csv.toString().getBytes(StandardCharsets.UTF_8))));
+
+        assertThat(userRepository.findExistingEmails(List.of("imported0@hostel.test", "imported119@hostel.test")))
+                .hasSize(2);
+        assertWithinBudget("POST", "/api/users/import", 3);
+    }
+
+    private void call(MockHttpServletRequestBuilder request) throws Exception {
+        MvcResult result = mockMvc.perform(request.header(HttpHeaders.AUTHORIZATION, "Bearer " + token)).andReturn();
+        if (result.getRequest().isAsyncStarted()) {
+            result = mockMvc.perform(asyncDispatch(result)).andReturn();
+        }
+        assertThat(result.getResponse().getStatus())
+                .as("%s %s", result.getRequest().getMethod(), result.getRequest().getRequestURI())
+                .isLessThan(400);
+    }
+
+    private void assertWithinBudget(String method, String route) {
+        assertWithinBudget(method, route, 0);
+    }
+
+    private void assertWithinBudget(String method, String route, int chunks) {
+        DistributionSummary statements = meterRegistry.find("db.statements.per.request")
+                .tag("method", method)
+                .tag("uri", route)
+                .summary();
+        assertThat(statements).as("no statement count recorded for %s %s", method, route).isNotNull();
+        assertThat(statements.count()).as("requests recorded for %s %s", method, route).isPositive();
+        assertThat(statements.max())
+                .as("statements run by %s %s", method, route)
+                .isLessThanOrEqualTo(budgets.budgetFor(method, route, chunks));
+    }
+
+    private static User user(String email, User.Role role) {
+        User user = new User();
+        user.setEmail(email);
+        user.setPassword("x");
+        user.setName(email);
+        user.setPhoneNumber("9000000000");
+        user.setRole(role);
+        return user;
+    }
+}
@@ -0,0 +1,130 @@
+package com.hostel.complaint.analytics;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Mergeable quantile sketch over non-negative durations in seconds.
+ *
+ * Values are counted in logarithmic bins whose bounds grow by a factor of
+ * {@code (1 + a) / (1 - a)}, so any reported quantile is within a relative
+ * error {@code a} of a value that was actually added. Because the bins are
+ * fixed, two sketches merge by adding their counts, which is what lets
+ * per-day rollups be combined into any date range. Values below one second
+ * share the first bin and values beyond {@link #MAX_SECONDS} the last.
+ *
+ * Not thread-safe.
+ */
+public class QuantileSketch {
+
+    public static final double RELATIVE_ACCURACY = 0.02;
+
+    // About 400 days; anything open longer than that is reported as this long
+    public static final double MAX_SECONDS = 400d * 24 * 60 * 60;
+
+    private static final double GAMMA = (1 + RELATIVE_ACCURACY) / (1 - RELATIVE_ACCURACY);
+    private static final double LOG_GAMMA = Math.log(GAMMA);
+    private static final int BINS = (int) Math.ceil(Math.log(MAX_SECONDS) / LOG_GAMMA) + 1;
+
+    private static final byte FORMAT_VERSION = 1;
+
+    private final long[] counts = new long[BINS];
+    private long count;
+
+    public void add(double seconds) {
+        counts[bin(seconds)]++;
+        count++;
+    }
+
+    public void merge(QuantileSketch other) {
+        for (int i = 0; i < BINS; i++) {
+            counts[i] += other.counts[i];
+        }
+        count += other.count;
+    }
+
+    /** Adds a sketch previously written by {@link #toBytes()} without materialising it. */
+    public void merge(byte[] encoded) {
+        ByteBuffer buffer = ByteBuffer.wrap(encoded);
+        if (buffer.get() != FORMAT_VERSION) {
+            throw new IllegalArgumentException("Unsupported sketch format");
+        }
+        int entries = buffer.getShort() & 0xFFFF;
+        for (int i = 0; i < entries; i++) {
+            int bin = buffer.getShort() & 0xFFFF;
+            long binCount = buffer.getInt() & 0xFFFFFFFFL;
+            counts[Math.min(bin, BINS - 1)] += binCount;
+            count += binCount;
+        }
+    }
+
+    public long count() {
+        return count;
+    }
+
+    /** Returns the q-quantile in seconds, or NaN for an empty sketch. */
+    public double quantile(double q) {
+        if (q < 0 || q > 1) {
+            throw new IllegalArgumentException("Quantile must be between 0 and 1");
+        }
+        if (count == 0) {
+            return Double.NaN;
+        }
+        long rank = (long) Math.floor(q * (count - 1));
+        long seen = 0;
+        for (int i = 0; i < BINS; i++) {
+            seen += counts[i];
+            if (seen > rank) {
+                return value(i);
+            }
+        }
+        return value(BINS - 1);
+    }
+
+    /** Sparse encoding: a version byte, the number of non-empty bins, then (bin, count) pairs. */
+    public byte[] toBytes() {
+        int entries = 0;
+        for (long binCount : counts) {
+            if (binCount != 0) {
+                entries++;
+            }
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(1 + 2 + entries * 6);
+        buffer.put(FORMAT_VERSION);
+        buffer.putShort((short) entries);
+        for (int i = 0; i < BINS; i++) {
+            if (counts[i] != 0) {
+                buffer.putShort((short) i);
+                buffer.putInt((int) Math.min(counts[i], 0xFFFFFFFFL));
+            }
+        }
+        return buffer.array();
+    }
+
+    public static QuantileSketch fromBytes(byte[] encoded) {
+        QuantileSketch sketch = new QuantileSketch();
+        if (encoded != null && encoded.length > 0) {
+            sketch.merge(encoded);
+        }
+        return sketch;
+    }
+
+    /** Upper bound on {@link #toBytes()} length, for sizing the storage column. */
+    public static int maxEncodedLength() {
+        return 1 + 2 + BINS * 6;
+    }
+
+    private static int bin(double seconds) {
+        if (!(seconds > 1)) {
+            return 0;
+        }
+        return Math.min((int) Math.ceil(Math.log(seconds) / LOG_GAMMA), BINS - 1);
+    }
+
+    // Bin i covers (GAMMA^(i-1), GAMMA^i]; this point is within RELATIVE_ACCURACY of both ends
+    private static double value(int bin) {
+        if (bin == 0) {
+            return 0;
+        }
+        return 2 * Math.pow(GAMMA, bin) / (GAMMA + 1);
+    }
+}
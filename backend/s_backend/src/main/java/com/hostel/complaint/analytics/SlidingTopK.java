@@ -0,0 +1,112 @@
+package com.hostel.complaint.analytics;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Approximate top-K over a sliding time window in fixed memory.
+ *
+ * The window is a ring of {@code slots} equal time slices, each with its own
+ * {@link SpaceSaving} summary; a slice is cleared when the ring wraps onto
+ * it. Queries merge the live slices, so the window slides in steps of one
+ * slice and memory is bounded by {@code slots * capacity} keys regardless of
+ * traffic.
+ *
+ * Thread-safe; callers are expected to be low-rate (one add per complaint).
+ */
+public class SlidingTopK {
+
+    private final long slotMillis;
+    private final SpaceSaving[] summaries;
+    private final long[] epochs;
+
+    public SlidingTopK(Duration window, int slots, int capacity) {
+        this.slotMillis = window.toMillis() / slots;
+        this.summaries = new SpaceSaving[slots];
+        this.epochs = new long[slots];
+        for (int i = 0; i < slots; i++) {
+            summaries[i] = new SpaceSaving(capacity);
+            epochs[i] = Long.MIN_VALUE;
+        }
+    }
+
+    /** Counts one occurrence of {@code key} at {@code timestampMillis}; occurrences outside the window are dropped. */
+    public synchronized void add(String key, long timestampMillis, long nowMillis) {
+        long epoch = Math.floorDiv(timestampMillis, slotMillis);
+        long current = Math.floorDiv(nowMillis, slotMillis);
+        if (epoch > current || epoch <= current - summaries.length) {
+            return;
+        }
+        int index = (int) Math.floorMod(epoch, (long) summaries.length);
+        if (epochs[index] != epoch) {
+            if (epochs[index] > epoch) {
+                return;
+            }
+            summaries[index].clear();
+            epochs[index] = epoch;
+        }
+        summaries[index].add(key);
+    }
+
+    /**
+     * Returns up to {@code limit} keys by estimated count over the window ending at {@code nowMillis}.
+     * {@code maxError} bounds the overestimate: the true count lies in [count - maxError, count].
+     */
+    public synchronized List<HeavyHitter> top(int limit, long nowMillis) {
+        long current = Math.floorDiv(nowMillis, slotMillis);
+        List<SpaceSaving> live = new ArrayList<>();
+        for (int i = 0; i < summaries.length; i++) {
+            if (epochs[i] <= current && epochs[i] > current - summaries.length) {
+                live.add(summaries[i]);
+            }
+        }
+
+        Map<String, long[]> merged = new HashMap<>();
+        for (SpaceSaving summary : live) {
+            summary.entries().forEach((key, entry) -> {
+                long[] totals = merged.computeIfAbsent(key, k -> new long[2]);
+                totals[0] += entry.count();
+                totals[1] += entry.error();
+            });
+        }
+
+        // A key missing from a full slice may still have occurred up to that slice's minimum count
+        long[] minCounts = new long[live.size()];
+        for (int i = 0; i < minCounts.length; i++) {
+            minCounts[i] = live.get(i).minCount();
+        }
+        List<HeavyHitter> result = new ArrayList<>(merged.size());
+        for (Map.Entry<String, long[]> entry : merged.entrySet()) {
+            long count = entry.getValue()[0];
+            long maxError = entry.getValue()[1];
+            for (int i = 0; i < minCounts.length; i++) {
+                if (minCounts[i] > 0 && !live.get(i).entries().containsKey(entry.getKey())) {
+                    count += minCounts[i];
+                    maxError += minCounts[i];
+                }
+            }
+            result.add(new HeavyHitter(entry.getKey(), count, maxError));
+        }
+        result.sort(Comparator.comparingLong(HeavyHitter::count).reversed()
+                .thenComparing(HeavyHitter::key));
+        return result.size() > limit ? new ArrayList<>(result.subList(0, limit)) : result;
+    }
+
+    public synchronized long total(long nowMillis) {
+        long current = Math.floorDiv(nowMillis, slotMillis);
+        long total = 0;
+        for (int i = 0; i < summaries.length; i++) {
+            if (epochs[i] <= current && epochs[i] > current - summaries.length) {
+                total += summaries[i].total();
+            }
+        }
+        return total;
+    }
+
+    public record HeavyHitter(String key, long count, long maxError) {
+    }
+}
@@ -0,0 +1,102 @@
+package com.hostel.complaint.analytics;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Space-Saving heavy-hitter summary holding at most {@code capacity} keys.
+ *
+ * When a new key arrives and the summary is full, the key with the smallest
+ * count is replaced and the newcomer inherits that count as its error. Every
+ * key whose true count exceeds {@code total / capacity} is guaranteed to be
+ * present, and a reported count overestimates the true one by at most its
+ * error.
+ *
+ * Not thread-safe.
+ */
+public class SpaceSaving {
+
+    private final int capacity;
+    private final Map<String, Entry> entries;
+    private long total;
+
+    public SpaceSaving(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.capacity = capacity;
+        this.entries = new HashMap<>(capacity * 2);
+    }
+
+    public void add(String key) {
+        total++;
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            entry.count++;
+            return;
+        }
+        if (entries.size() < capacity) {
+            entries.put(key, new Entry(1, 0));
+            return;
+        }
+        // Linear scan for the minimum; capacity is small and this only runs for unseen keys
+        String victim = null;
+        Entry smallest = null;
+        for (Map.Entry<String, Entry> candidate : entries.entrySet()) {
+            if (smallest == null || candidate.getValue().count < smallest.count) {
+                victim = candidate.getKey();
+                smallest = candidate.getValue();
+            }
+        }
+        entries.remove(victim);
+        entries.put(key, new Entry(smallest.count + 1, smallest.count));
+    }
+
+    public void clear() {
+        entries.clear();
+        total = 0;
+    }
+
+    public boolean isFull() {
+        return entries.size() >= capacity;
+    }
+
+    /** Smallest tracked count; an untracked key occurred at most this often. */
+    public long minCount() {
+        if (!isFull()) {
+            return 0;
+        }
+        long min = Long.MAX_VALUE;
+        for (Entry entry : entries.values()) {
+            min = Math.min(min, entry.count);
+        }
+        return min;
+    }
+
+    public long total() {
+        return total;
+    }
+
+    public Map<String, Entry> entries() {
+        return Collections.unmodifiableMap(entries);
+    }
+
+    public static final class Entry {
+        private long count;
+        private final long error;
+
+        private Entry(long count, long error) {
+            this.count = count;
+            this.error = error;
+        }
+
+        public long count() {
+            return count;
+        }
+
+        public long error() {
+            return error;
+        }
+    }
+}
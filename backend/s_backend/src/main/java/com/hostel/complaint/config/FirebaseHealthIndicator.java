@@ -0,0 +1,23 @@
+package com.hostel.complaint.config;
+
+import com.google.firebase.FirebaseApp;
+import org.springframework.boot.actuate.health.AbstractHealthIndicator;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.stereotype.Component;
+
+/**
+ * Firebase only backs the optional token login here, so a missing app is
+ * reported as UNKNOWN rather than taking the whole service DOWN.
+ */
+@Component("firebase")
+public class FirebaseHealthIndicator extends AbstractHealthIndicator {
+
+    @Override
+    protected void doHealthCheck(Health.Builder builder) {
+        if (FirebaseApp.getApps().isEmpty()) {
+            builder.unknown().withDetail("reason", "Firebase app not initialized");
+        } else {
+            builder.up().withDetail("projectId", String.valueOf(FirebaseApp.getInstance().getOptions().getProjectId()));
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.hostel.complaint.controller;
+
+import com.hostel.complaint.security.BoundedPasswordEncoder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/admin/metrics")
+@CrossOrigin(origins = "*")
+public class AdminMetricsController {
+
+    @Autowired
+    private BoundedPasswordEncoder passwordEncoder;
+
+    @GetMapping("/password-hashing")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> getPasswordHashingStats() {
+        return ResponseEntity.ok(passwordEncoder.getStats());
+    }
+}
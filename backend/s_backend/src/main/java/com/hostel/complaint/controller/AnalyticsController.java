@@ -0,0 +1,55 @@
+package com.hostel.complaint.controller;
+
+import com.hostel.complaint.entity.Complaint;
+import com.hostel.complaint.service.ComplaintHotspots;
+import com.hostel.complaint.service.ResolutionAnalyticsService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import java.time.LocalDate;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/analytics")
+@CrossOrigin(origins = "*")
+public class AnalyticsController {
+
+    @Autowired
+    private ResolutionAnalyticsService resolutionAnalyticsService;
+
+    @Autowired
+    private ComplaintHotspots complaintHotspots;
+
+    // Defaults to the last 30 days; groupBy is one of none, day, week, category, priority
+    @GetMapping("/resolution")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> getResolutionTimes(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Complaint.Category category,
+            @RequestParam(required = false) Complaint.Priority priority,
+            @RequestParam(defaultValue = "none") String groupBy) {
+        try {
+            LocalDate end = to != null ? to : LocalDate.now();
+            LocalDate start = from != null ? from : end.minusDays(29);
+            return ResponseEntity.ok(resolutionAnalyticsService.resolutionTimes(start, end, category, priority,
+                    ResolutionAnalyticsService.GroupBy.valueOf(groupBy.trim().toUpperCase())));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    // Noisiest rooms and room x category pairs; window is 24h, 7d or 30d (all three when omitted)
+    @GetMapping("/hotspots")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> getHotspots(@RequestParam(required = false) String window,
+                                         @RequestParam(defaultValue = "10") int limit) {
+        try {
+            return ResponseEntity.ok(complaintHotspots.hotspots(window, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+}
@@ -1,8 +1,11 @@
 package com.hostel.complaint.controller;
 
 import com.hostel.complaint.entity.User;
+import com.hostel.complaint.security.PasswordHashingRejectedException;
 import com.hostel.complaint.service.AuthService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import java.util.Map;
@@ -20,6 +23,8 @@ public class AuthController {
         try {
             Map<String, Object> response = authService.register(user);
             return ResponseEntity.ok(response);
+        } catch (PasswordHashingRejectedException e) {
+            return serverBusy(e);
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         }
@@ -32,6 +37,8 @@ public class AuthController {
             String password = loginRequest.get("password");
             Map<String, Object> response = authService.login(email, password);
             return ResponseEntity.ok(response);
+        } catch (PasswordHashingRejectedException e) {
+            return serverBusy(e);
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(Map.of("error", "Invalid credentials"));
         }
@@ -47,4 +54,10 @@ public class AuthController {
             return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         }
     }
+
+    private ResponseEntity<?> serverBusy(PasswordHashingRejectedException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(Map.of("error", e.getMessage()));
+    }
 }
@@ -1,13 +1,35 @@
 package com.hostel.complaint.controller;
 
+import com.hostel.complaint.dto.ComplaintBulkRequest;
 import com.hostel.complaint.entity.Complaint;
+import com.hostel.complaint.service.ComplaintBulkService;
+import com.hostel.complaint.service.ComplaintConflictException;
+import com.hostel.complaint.service.ComplaintExportService;
+import com.hostel.complaint.service.ComplaintIngestionService;
 import com.hostel.complaint.service.ComplaintService;
+import com.hostel.complaint.service.ComplaintStreamService;
+import com.hostel.complaint.service.IngestionRejectedException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
-import java.util.List;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.zip.GZIPOutputStream;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @RestController
 @RequestMapping("/api/complaints")
@@ -17,52 +39,204 @@ public class ComplaintController {
     @Autowired
     private ComplaintService complaintService;
 
+    @Autowired
+    private ComplaintStreamService complaintStreamService;
+
+    @Autowired
+    private ComplaintExportService complaintExportService;
+
+    @Autowired
+    private ComplaintBulkService complaintBulkService;
+
+    @Autowired
+    private ComplaintIngestionService complaintIngestionService;
+
     @GetMapping
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<List<Complaint>> getAllComplaints() {
-        return ResponseEntity.ok(complaintService.getAllComplaints());
+    public ResponseEntity<?> getAllComplaints(@RequestParam(required = false) String cursor,
+                                              @RequestParam(defaultValue = ComplaintService.DEFAULT_PAGE_SIZE) int size,
+                                              WebRequest webRequest) {
+        try {
+            if (ConditionalGet.notModified(webRequest, "all:" + cursor + ":" + size,
+                    complaintService.probeComplaints(null, null, null, null))) {
+                return null;
+            }
+            return ResponseEntity.ok(complaintService.getAllComplaints(cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    @GetMapping("/search")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> searchComplaints(@RequestParam("q") String query,
+                                              @RequestParam(defaultValue = "0") int page,
+                                              @RequestParam(defaultValue = "20") int size) {
+        try {
+            return ResponseEntity.ok(complaintService.searchComplaints(query, page, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamComplaintChanges(Authentication authentication) {
+        try {
+            return complaintStreamService.subscribe(authentication.getName());
+        } catch (IllegalStateException e) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage());
+        }
+    }
+
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> exportComplaints(@RequestParam(defaultValue = "csv") String format,
+                                              @RequestParam(required = false) String status,
+                                              @RequestParam(required = false) String category,
+                                              @RequestParam(required = false) Long studentId,
+                                              @RequestParam(required = false) Long adminId,
+                                              @RequestParam(defaultValue = "false") boolean gzip) {
+        ComplaintExportService.Format exportFormat;
+        Complaint.Status complaintStatus;
+        Complaint.Category complaintCategory;
+        try {
+            exportFormat = ComplaintExportService.Format.valueOf(format.toUpperCase());
+            complaintStatus = status == null ? null : Complaint.Status.valueOf(status.toUpperCase());
+            complaintCategory = category == null ? null : Complaint.Category.valueOf(category.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+
+        StreamingResponseBody body = out -> {
+            OutputStream target = gzip ? new GZIPOutputStream(out, 64 * 1024) : out;
+            complaintExportService.export(exportFormat, complaintStatus, complaintCategory, studentId, adminId, target);
+            if (target instanceof GZIPOutputStream) {
+                ((GZIPOutputStream) target).finish();
+            }
+        };
+
+        String extension = exportFormat == ComplaintExportService.Format.CSV ? "csv" : "ndjson";
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(exportFormat == ComplaintExportService.Format.CSV
+                        ? new MediaType("text", "csv", StandardCharsets.UTF_8)
+                        : new MediaType("application", "x-ndjson", StandardCharsets.UTF_8))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"complaints." + extension + "\"");
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<?> getComplaintById(@PathVariable Long id) {
+    public ResponseEntity<?> getComplaintById(@PathVariable Long id, WebRequest webRequest) {
+        Optional<LocalDateTime> updatedAt = complaintService.findUpdatedAt(id);
+        if (updatedAt.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        if (ConditionalGet.notModified(webRequest, "complaint:" + id, updatedAt.get())) {
+            return null;
+        }
         return complaintService.findById(id)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
 
     @GetMapping("/student/{studentId}")
-    public ResponseEntity<List<Complaint>> getComplaintsByStudentId(@PathVariable Long studentId) {
-        return ResponseEntity.ok(complaintService.getComplaintsByStudentId(studentId));
+    public ResponseEntity<?> getComplaintsByStudentId(@PathVariable Long studentId,
+                                                      @RequestParam(required = false) String cursor,
+                                                      @RequestParam(defaultValue = ComplaintService.DEFAULT_PAGE_SIZE) int size,
+                                                      WebRequest webRequest) {
+        try {
+            if (ConditionalGet.notModified(webRequest, "student:" + studentId + ":" + cursor + ":" + size,
+                    complaintService.probeComplaints(null, null, studentId, null))) {
+                return null;
+            }
+            return ResponseEntity.ok(complaintService.getComplaintsByStudentId(studentId, cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
     }
 
     @GetMapping("/status/{status}")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<List<Complaint>> getComplaintsByStatus(@PathVariable String status) {
-        Complaint.Status complaintStatus = Complaint.Status.valueOf(status.toUpperCase());
-        return ResponseEntity.ok(complaintService.getComplaintsByStatus(complaintStatus));
+    public ResponseEntity<?> getComplaintsByStatus(@PathVariable String status,
+                                                   @RequestParam(required = false) String cursor,
+                                                   @RequestParam(defaultValue = ComplaintService.DEFAULT_PAGE_SIZE) int size,
+                                                   WebRequest webRequest) {
+        try {
+            Complaint.Status complaintStatus = Complaint.Status.valueOf(status.toUpperCase());
+            if (ConditionalGet.notModified(webRequest, "status:" + complaintStatus + ":" + cursor + ":" + size,
+                    complaintService.probeComplaints(complaintStatus, null, null, null))) {
+                return null;
+            }
+            return ResponseEntity.ok(complaintService.getComplaintsByStatus(complaintStatus, cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
     }
 
     @GetMapping("/category/{category}")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<List<Complaint>> getComplaintsByCategory(@PathVariable String category) {
-        Complaint.Category complaintCategory = Complaint.Category.valueOf(category.toUpperCase());
-        return ResponseEntity.ok(complaintService.getComplaintsByCategory(complaintCategory));
+    public ResponseEntity<?> getComplaintsByCategory(@PathVariable String category,
+                                                     @RequestParam(required = false) String cursor,
+                                                     @RequestParam(defaultValue = ComplaintService.DEFAULT_PAGE_SIZE) int size,
+                                                     WebRequest webRequest) {
+        try {
+            Complaint.Category complaintCategory = Complaint.Category.valueOf(category.toUpperCase());
+            if (ConditionalGet.notModified(webRequest, "category:" + complaintCategory + ":" + cursor + ":" + size,
+                    complaintService.probeComplaints(null, complaintCategory, null, null))) {
+                return null;
+            }
+            return ResponseEntity.ok(complaintService.getComplaintsByCategory(complaintCategory, cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
     }
 
     @GetMapping("/admin/{adminId}")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<List<Complaint>> getComplaintsByAdminId(@PathVariable Long adminId) {
-        return ResponseEntity.ok(complaintService.getComplaintsByAdminId(adminId));
+    public ResponseEntity<?> getComplaintsByAdminId(@PathVariable Long adminId,
+                                                    @RequestParam(required = false) String cursor,
+                                                    @RequestParam(defaultValue = ComplaintService.DEFAULT_PAGE_SIZE) int size,
+                                                    WebRequest webRequest) {
+        try {
+            if (ConditionalGet.notModified(webRequest, "admin:" + adminId + ":" + cursor + ":" + size,
+                    complaintService.probeComplaints(null, null, null, adminId))) {
+                return null;
+            }
+            return ResponseEntity.ok(complaintService.getComplaintsByAdminId(adminId, cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
     }
 
+    // With batched ingestion on, answers 202 once the complaint's batch has committed
     @PostMapping
-    public ResponseEntity<?> createComplaint(@RequestBody Complaint complaint) {
+    public CompletableFuture<ResponseEntity<?>> createComplaint(@RequestBody Complaint complaint) {
         try {
+            if (complaintIngestionService.isEnabled()) {
+                return complaintIngestionService.submit(complaint)
+                        .<ResponseEntity<?>>thenApply(saved -> ResponseEntity
+                                .accepted()
+                                .location(URI.create("/api/complaints/" + saved.getId()))
+                                .body(saved))
+                        .exceptionally(this::ingestionFailure);
+            }
             Complaint createdComplaint = complaintService.createComplaint(complaint);
-            return ResponseEntity.ok(createdComplaint);
+            return CompletableFuture.completedFuture(ResponseEntity.ok(createdComplaint));
         } catch (Exception e) {
-            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().body(Map.of("error", e.getMessage())));
+        }
+    }
+
+    private ResponseEntity<?> ingestionFailure(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof IngestionRejectedException) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body(Map.of("error", cause.getMessage()));
         }
+        return ResponseEntity.badRequest().body(Map.of("error", String.valueOf(cause.getMessage())));
     }
 
     @PutMapping("/{id}")
@@ -70,6 +244,8 @@ public class ComplaintController {
         try {
             Complaint updatedComplaint = complaintService.updateComplaint(id, complaint);
             return ResponseEntity.ok(updatedComplaint);
+        } catch (ComplaintConflictException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("error", e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         }
@@ -82,9 +258,23 @@ public class ComplaintController {
         try {
             String status = statusUpdate.get("status");
             String adminResponse = statusUpdate.get("adminResponse");
+            String version = statusUpdate.get("version");
             Complaint.Status complaintStatus = Complaint.Status.valueOf(status.toUpperCase());
-            Complaint updatedComplaint = complaintService.updateComplaintStatus(id, complaintStatus, adminResponse);
+            Complaint updatedComplaint = complaintService.updateComplaintStatus(id, complaintStatus, adminResponse,
+                    version == null ? null : Long.valueOf(version));
             return ResponseEntity.ok(updatedComplaint);
+        } catch (ComplaintConflictException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("error", e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    @PostMapping("/bulk")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> bulkUpdate(@RequestBody ComplaintBulkRequest request) {
+        try {
+            return ResponseEntity.ok(complaintBulkService.apply(request));
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         }
@@ -104,11 +294,6 @@ public class ComplaintController {
     @GetMapping("/stats")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<?> getComplaintStats() {
-        Map<String, Object> stats = Map.of(
-                "total", complaintService.getTotalComplaints(),
-                "pending", complaintService.getPendingComplaints(),
-                "resolved", complaintService.getResolvedComplaints()
-        );
-        return ResponseEntity.ok(stats);
+        return ResponseEntity.ok(complaintService.getComplaintStats());
     }
 }
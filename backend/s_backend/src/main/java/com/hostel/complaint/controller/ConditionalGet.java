@@ -0,0 +1,31 @@
+package com.hostel.complaint.controller;
+
+import com.hostel.complaint.dto.ChangeProbe;
+import org.springframework.web.context.request.WebRequest;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Weak ETag / Last-Modified handling for read endpoints. Sets both headers on
+ * the response and returns true when the client's copy is still current, in
+ * which case the caller should return without loading any rows.
+ */
+final class ConditionalGet {
+
+    private ConditionalGet() {
+    }
+
+    static boolean notModified(WebRequest request, String scope, ChangeProbe probe) {
+        long lastModified = toEpochMillis(probe.getLastModified());
+        String etag = "W/\"" + Integer.toHexString(scope.hashCode()) + "-" + probe.getCount() + "-" + lastModified + "\"";
+        return request.checkNotModified(etag, lastModified);
+    }
+
+    static boolean notModified(WebRequest request, String scope, LocalDateTime updatedAt) {
+        return notModified(request, scope, new ChangeProbe(updatedAt, 1L));
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime == null ? 0 : dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
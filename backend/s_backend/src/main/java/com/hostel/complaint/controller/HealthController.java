@@ -1,7 +1,14 @@
 package com.hostel.complaint.controller;
 
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.health.CompositeHealth;
+import org.springframework.boot.actuate.health.HealthComponent;
+import org.springframework.boot.actuate.health.HealthEndpoint;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 @RestController
@@ -9,12 +16,27 @@ import java.util.Map;
 @CrossOrigin(origins = "*")
 public class HealthController {
 
+    @Autowired
+    private HealthEndpoint healthEndpoint;
+
+    // Aggregates the actuator health indicators (database, disk, Firebase); details stay on /actuator/health
     @GetMapping("/health")
     public ResponseEntity<?> health() {
-        return ResponseEntity.ok(Map.of(
-                "status", "UP",
-                "message", "Hostel Complaint Management System is running",
-                "timestamp", System.currentTimeMillis()
-        ));
+        HealthComponent health = healthEndpoint.health();
+
+        Map<String, Object> checks = new LinkedHashMap<>();
+        if (health instanceof CompositeHealth composite) {
+            composite.getComponents().forEach((name, component) -> checks.put(name, component.getStatus().getCode()));
+        }
+
+        boolean up = Status.UP.equals(health.getStatus());
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("status", health.getStatus().getCode());
+        response.put("message", up
+                ? "Hostel Complaint Management System is running"
+                : "Hostel Complaint Management System is not ready");
+        response.put("checks", checks);
+        response.put("timestamp", System.currentTimeMillis());
+        return ResponseEntity.status(up ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE).body(response);
     }
 }
@@ -1,13 +1,22 @@
 package com.hostel.complaint.controller;
 
 import com.hostel.complaint.entity.User;
+import com.hostel.complaint.security.CustomUserDetailsService;
+import com.hostel.complaint.security.PasswordHashingRejectedException;
+import com.hostel.complaint.service.StudentImportService;
 import com.hostel.complaint.service.UserService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/users")
@@ -17,14 +26,30 @@ public class UserController {
     @Autowired
     private UserService userService;
 
+    @Autowired
+    private CustomUserDetailsService userDetailsService;
+
+    @Autowired
+    private StudentImportService studentImportService;
+
     @GetMapping
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<List<User>> getAllUsers() {
+    public ResponseEntity<List<User>> getAllUsers(WebRequest webRequest) {
+        if (ConditionalGet.notModified(webRequest, "users", userService.probeUsers(null))) {
+            return null;
+        }
         return ResponseEntity.ok(userService.getAllUsers());
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<?> getUserById(@PathVariable Long id) {
+    public ResponseEntity<?> getUserById(@PathVariable Long id, WebRequest webRequest) {
+        Optional<LocalDateTime> updatedAt = userService.findUpdatedAt(id);
+        if (updatedAt.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        if (ConditionalGet.notModified(webRequest, "user:" + id, updatedAt.get())) {
+            return null;
+        }
         return userService.findById(id)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
@@ -32,8 +57,11 @@ public class UserController {
 
     @GetMapping("/role/{role}")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<List<User>> getUsersByRole(@PathVariable String role) {
+    public ResponseEntity<List<User>> getUsersByRole(@PathVariable String role, WebRequest webRequest) {
         User.Role userRole = User.Role.valueOf(role.toUpperCase());
+        if (ConditionalGet.notModified(webRequest, "users:" + userRole, userService.probeUsers(userRole))) {
+            return null;
+        }
         return ResponseEntity.ok(userService.getUsersByRole(userRole));
     }
 
@@ -42,6 +70,10 @@ public class UserController {
         try {
             User updatedUser = userService.updateUser(id, user);
             return ResponseEntity.ok(updatedUser);
+        } catch (PasswordHashingRejectedException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body(Map.of("error", e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         }
@@ -79,4 +111,20 @@ public class UserController {
             return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         }
     }
+
+    @PostMapping("/import")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> importStudents(@RequestParam("file") MultipartFile file) {
+        try {
+            return ResponseEntity.ok(studentImportService.importStudents(file.getInputStream()));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    @GetMapping("/principal-cache/stats")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> getPrincipalCacheStats() {
+        return ResponseEntity.ok(userDetailsService.getCacheStats());
+    }
 }
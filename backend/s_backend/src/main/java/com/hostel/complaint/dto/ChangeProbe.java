@@ -0,0 +1,21 @@
+package com.hostel.complaint.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+
+/**
+ * MAX(updatedAt) and COUNT(*) for a filtered set of rows. Together they change
+ * whenever a row in the set is added, updated or removed, which makes them a
+ * cheap validator for conditional GETs.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChangeProbe {
+
+    private LocalDateTime lastModified;
+
+    private Long count;
+}
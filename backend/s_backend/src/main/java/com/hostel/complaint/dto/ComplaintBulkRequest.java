@@ -0,0 +1,33 @@
+package com.hostel.complaint.dto;
+
+import com.hostel.complaint.entity.Complaint;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+public class ComplaintBulkRequest {
+
+    public enum Action {
+        SET_STATUS,
+        ASSIGN,
+        SET_PRIORITY,
+        DELETE
+    }
+
+    private List<Long> ids;
+
+    private Action action;
+
+    // SET_STATUS
+    private Complaint.Status status;
+
+    private String adminResponse;
+
+    // ASSIGN
+    private Long adminId;
+
+    // SET_PRIORITY
+    private Complaint.Priority priority;
+}
@@ -0,0 +1,34 @@
+package com.hostel.complaint.dto;
+
+import com.hostel.complaint.entity.Complaint;
+import java.time.LocalDateTime;
+
+/**
+ * Column subset of {@link Complaint} used by list views. Leaves out the
+ * 2000-character description and admin response; those are only loaded by
+ * GET /api/complaints/{id}.
+ */
+public interface ComplaintSummary {
+
+    Long getId();
+
+    String getTitle();
+
+    Complaint.Category getCategory();
+
+    Complaint.Priority getPriority();
+
+    Complaint.Status getStatus();
+
+    Long getStudentId();
+
+    String getStudentName();
+
+    String getRoomNumber();
+
+    Long getAssignedToAdminId();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+}
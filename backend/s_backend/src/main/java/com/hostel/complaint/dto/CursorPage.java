@@ -0,0 +1,19 @@
+package com.hostel.complaint.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+
+    private List<T> items;
+
+    // Opaque continuation token, null on the last page
+    private String nextCursor;
+
+    private boolean hasMore;
+}
@@ -7,7 +7,15 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "complaints")
+@Table(name = "complaints", indexes = {
+        @Index(name = "idx_complaints_created", columnList = "created_at, id"),
+        @Index(name = "idx_complaints_updated", columnList = "updated_at"),
+        @Index(name = "idx_complaints_student_created", columnList = "student_id, created_at, id"),
+        @Index(name = "idx_complaints_status_created", columnList = "status, created_at, id"),
+        @Index(name = "idx_complaints_category_created", columnList = "category, created_at, id"),
+        @Index(name = "idx_complaints_admin_status", columnList = "assigned_to_admin_id, status"),
+        @Index(name = "idx_complaints_admin_created", columnList = "assigned_to_admin_id, created_at, id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -59,6 +67,9 @@ public class Complaint {
     @Column
     private LocalDateTime resolvedAt;
 
+    @Version
+    private Long version;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
@@ -0,0 +1,49 @@
+package com.hostel.complaint.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDate;
+
+/**
+ * Time-to-resolve totals for complaints resolved on one day in one
+ * category and priority. {@code sketch} holds an encoded
+ * {@link com.hostel.complaint.analytics.QuantileSketch} of the same
+ * resolutions, so rows for any date range can be merged into percentiles.
+ */
+@Entity
+@Table(name = "resolution_rollups", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_resolution_rollups_bucket", columnNames = {"resolved_on", "category", "priority"})
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResolutionRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // Day the complaints were resolved, in server time
+    @Column(nullable = false)
+    private LocalDate resolvedOn;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Complaint.Category category;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Complaint.Priority priority;
+
+    @Column(nullable = false)
+    private long resolvedCount;
+
+    @Column(nullable = false)
+    private long totalSeconds;
+
+    // Sparse encoding is well under this; see QuantileSketch.maxEncodedLength()
+    @Column(nullable = false, length = 4096)
+    private byte[] sketch;
+}
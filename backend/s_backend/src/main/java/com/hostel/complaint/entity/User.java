@@ -5,9 +5,14 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
+import java.util.Locale;
 
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = {
+        @Index(name = "idx_users_role", columnList = "role, updated_at"),
+        @Index(name = "idx_users_parent", columnList = "parent_id"),
+        @Index(name = "idx_users_student", columnList = "student_id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -54,15 +59,25 @@ public class User {
 
     @PrePersist
     protected void onCreate() {
+        email = normalizeEmail(email);
         createdAt = LocalDateTime.now();
         updatedAt = LocalDateTime.now();
     }
 
     @PreUpdate
     protected void onUpdate() {
+        email = normalizeEmail(email);
         updatedAt = LocalDateTime.now();
     }
 
+    /**
+     * The stored form of an email: trimmed and lower-cased. Every write and
+     * every by-email lookup goes through this so duplicate checks agree.
+     */
+    public static String normalizeEmail(String email) {
+        return email == null ? null : email.trim().toLowerCase(Locale.ROOT);
+    }
+
     public enum Role {
         STUDENT,
         PARENT,
@@ -0,0 +1,50 @@
+package com.hostel.complaint.event;
+
+import com.hostel.complaint.entity.Complaint;
+import lombok.Getter;
+
+/**
+ * Published by ComplaintService for every complaint write. Listeners use
+ * {@code @TransactionalEventListener} so they only observe committed changes.
+ */
+@Getter
+public class ComplaintEvent {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    private final Type type;
+
+    // State after the change; for DELETED, the last state before removal
+    private final Complaint complaint;
+
+    // Indexed fields as they were before an UPDATED change
+    private final Complaint.Status previousStatus;
+    private final Complaint.Category previousCategory;
+    private final Complaint.Priority previousPriority;
+
+    private ComplaintEvent(Type type, Complaint complaint, Complaint.Status previousStatus,
+                           Complaint.Category previousCategory, Complaint.Priority previousPriority) {
+        this.type = type;
+        this.complaint = complaint;
+        this.previousStatus = previousStatus;
+        this.previousCategory = previousCategory;
+        this.previousPriority = previousPriority;
+    }
+
+    public static ComplaintEvent created(Complaint complaint) {
+        return new ComplaintEvent(Type.CREATED, complaint, null, null, null);
+    }
+
+    public static ComplaintEvent updated(Complaint complaint, Complaint.Status previousStatus,
+                                         Complaint.Category previousCategory, Complaint.Priority previousPriority) {
+        return new ComplaintEvent(Type.UPDATED, complaint, previousStatus, previousCategory, previousPriority);
+    }
+
+    public static ComplaintEvent deleted(Complaint complaint) {
+        return new ComplaintEvent(Type.DELETED, complaint, null, null, null);
+    }
+}
@@ -0,0 +1,172 @@
+package com.hostel.complaint.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Records how many SQL statements each request ran, tagged with the matched
+ * route, and checks the count against that route's statement budget. Runs
+ * ahead of Spring Security so principal lookups are included.
+ *
+ * The count is bound to the request thread, and work the request hands to
+ * the application task executor counts into it too (see
+ * {@link StatementCounter}). For async requests (exports, SSE,
+ * CompletableFuture handlers) the count is recorded when the async request
+ * completes rather than when the first dispatch returns.
+ *
+ * Routes listed in {@code db.query-budget.per-chunk} (imports) are allowed
+ * that many more statements for every chunk the request reported through
+ * {@link StatementCounter.Count#addChunk()}.
+ *
+ * Over-budget requests are logged and counted in
+ * {@code db.query.budget.exceeded}. They are never failed: by the time the
+ * count is final the response has usually been committed, so budgets are
+ * enforced by tests instead.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class RequestQueryMetricsFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(RequestQueryMetricsFilter.class);
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${db.query-budget.default:20}")
+    private int defaultBudget;
+
+    // Comma-separated "METHOD /route/pattern:budget" entries
+    @Value("${db.query-budget.endpoints:}")
+    private String endpointBudgets;
+
+    // Comma-separated "METHOD /route/pattern:statements" entries, added to the route's budget per chunk
+    @Value("${db.query-budget.per-chunk:}")
+    private String perChunkBudgets;
+
+    private final Map<String, Integer> budgets = new HashMap<>();
+    private final Map<String, Integer> chunkBudgets = new HashMap<>();
+
+    @PostConstruct
+    public void parseBudgets() {
+        parse(endpointBudgets, "db.query-budget.endpoints", budgets);
+        parse(perChunkBudgets, "db.query-budget.per-chunk", chunkBudgets);
+    }
+
+    private static void parse(String entries, String property, Map<String, Integer> into) {
+        for (String entry : entries.split(",")) {
+            String trimmed = entry.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            int separator = trimmed.lastIndexOf(':');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Expected 'METHOD /path:budget' in " + property + ", got: " + trimmed);
+            }
+            into.put(trimmed.substring(0, separator).trim(), Integer.parseInt(trimmed.substring(separator + 1).trim()));
+        }
+    }
+
+    /**
+     * Statement budget for a request, e.g. {@code budgetFor("GET", "/api/complaints/{id}")}.
+     */
+    public int budgetFor(String method, String route) {
+        return budgetFor(method, route, 0);
+    }
+
+    /**
+     * Statement budget for a request that processed {@code chunks} chunks.
+     */
+    public int budgetFor(String method, String route, int chunks) {
+        String key = method + " " + route;
+        return budgets.getOrDefault(key, defaultBudget) + chunkBudgets.getOrDefault(key, 0) * chunks;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        StatementCounter.Count count = StatementCounter.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            StatementCounter.stop();
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new RecordOnCompletion(request, count));
+            } else {
+                record(request, count);
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, StatementCounter.Count count) {
+        int statements = count.get();
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String route = pattern != null ? pattern.toString() : "UNKNOWN";
+        DistributionSummary.builder("db.statements.per.request")
+                .baseUnit("statements")
+                .tag("method", request.getMethod())
+                .tag("uri", route)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(statements);
+
+        int budget = budgetFor(request.getMethod(), route, count.chunks());
+        if (statements > budget) {
+            meterRegistry.counter("db.query.budget.exceeded", "method", request.getMethod(), "uri", route).increment();
+            log.warn("Query budget exceeded for {} {}: {} statements, budget {}",
+                    request.getMethod(), route, statements, budget);
+        }
+    }
+
+    private final class RecordOnCompletion implements AsyncListener {
+        private final HttpServletRequest request;
+        private final StatementCounter.Count count;
+        private final AtomicBoolean recorded = new AtomicBoolean();
+
+        private RecordOnCompletion(HttpServletRequest request, StatementCounter.Count count) {
+            this.request = request;
+            this.count = count;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            if (recorded.compareAndSet(false, true)) {
+                record(request, count);
+            }
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // A re-started async cycle replaces its listeners, so follow it
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.hostel.complaint.metrics;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Counts JDBC statement executions into the {@link Count} bound to the
+ * executing thread. Installed on the proxied DataSource, so Hibernate,
+ * Spring Data and JdbcTemplate traffic are all included; a JDBC batch counts
+ * as one execution because it is one round trip.
+ *
+ * A request's count is bound to the servlet thread by
+ * {@link RequestQueryMetricsFilter} and follows the request onto other
+ * threads through {@link #propagate(Runnable)}, which
+ * {@link StatementCountingTaskDecorator} applies to the application task
+ * executor ({@code @Async}, {@code StreamingResponseBody}, {@code Callable}).
+ */
+public class StatementCounter implements QueryExecutionListener {
+
+    private static final ThreadLocal<Count> current = new ThreadLocal<>();
+
+    /**
+     * Opens a new count on this thread and returns it.
+     */
+    public static Count start() {
+        Count count = new Count();
+        current.set(count);
+        return count;
+    }
+
+    /**
+     * The count bound to this thread, or null.
+     */
+    public static Count current() {
+        return current.get();
+    }
+
+    /**
+     * Unbinds this thread's count and returns how many statements it holds.
+     */
+    public static int stop() {
+        Count count = current.get();
+        current.remove();
+        return count != null ? count.get() : 0;
+    }
+
+    /**
+     * Wraps {@code task} so that it counts into the count bound to the
+     * calling thread, if any, and restores the worker's own binding after.
+     */
+    public static Runnable propagate(Runnable task) {
+        Count count = current.get();
+        if (count == null) {
+            return task;
+        }
+        return () -> {
+            Count previous = current.get();
+            current.set(count);
+            try {
+                task.run();
+            } finally {
+                if (previous != null) {
+                    current.set(previous);
+                } else {
+                    current.remove();
+                }
+            }
+        };
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        Count count = current.get();
+        if (count != null) {
+            count.add(1);
+        }
+    }
+
+    /**
+     * Statements run on behalf of one unit of work; safe to add to from any thread.
+     * Work that scales with its input (imports) also counts the chunks it
+     * processed, so its budget can be checked per chunk.
+     */
+    public static final class Count {
+        private final AtomicInteger statements = new AtomicInteger();
+        private final AtomicInteger chunks = new AtomicInteger();
+
+        public void add(int executed) {
+            statements.addAndGet(executed);
+        }
+
+        public int get() {
+            return statements.get();
+        }
+
+        public void addChunk() {
+            chunks.incrementAndGet();
+        }
+
+        public int chunks() {
+            return chunks.get();
+        }
+    }
+}
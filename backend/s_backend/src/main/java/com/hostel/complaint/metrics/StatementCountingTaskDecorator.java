@@ -0,0 +1,18 @@
+package com.hostel.complaint.metrics;
+
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Carries the submitting request's statement count onto the application
+ * task executor, which Spring Boot wires with this decorator and which also
+ * runs Spring MVC async work such as the export's StreamingResponseBody.
+ */
+@Component
+public class StatementCountingTaskDecorator implements TaskDecorator {
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        return StatementCounter.propagate(runnable);
+    }
+}
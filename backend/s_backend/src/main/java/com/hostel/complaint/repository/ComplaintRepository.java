@@ -1,12 +1,23 @@
 package com.hostel.complaint.repository;
 
 import com.hostel.complaint.entity.Complaint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface ComplaintRepository extends JpaRepository<Complaint, Long> {
+public interface ComplaintRepository extends JpaRepository<Complaint, Long>, ComplaintRepositoryCustom {
     
     List<Complaint> findByStudentId(Long studentId);
     
@@ -19,4 +30,42 @@ public interface ComplaintRepository extends JpaRepository<Complaint, Long> {
     List<Complaint> findByStudentIdOrderByCreatedAtDesc(Long studentId);
     
     List<Complaint> findAllByOrderByCreatedAtDesc();
+
+    // Keyset pagination on (createdAt, id), newest first; pass ComplaintSummary.class to select list columns only
+    <T> Window<T> findAllByOrderByCreatedAtDescIdDesc(ScrollPosition position, Limit limit, Class<T> type);
+
+    <T> Window<T> findByStudentIdOrderByCreatedAtDescIdDesc(Long studentId, ScrollPosition position, Limit limit, Class<T> type);
+
+    <T> Window<T> findByStatusOrderByCreatedAtDescIdDesc(Complaint.Status status, ScrollPosition position, Limit limit, Class<T> type);
+
+    <T> Window<T> findByCategoryOrderByCreatedAtDescIdDesc(Complaint.Category category, ScrollPosition position, Limit limit, Class<T> type);
+
+    <T> Window<T> findByAssignedToAdminIdOrderByCreatedAtDescIdDesc(Long adminId, ScrollPosition position, Limit limit, Class<T> type);
+
+    <T> List<T> findByIdIn(Collection<Long> ids, Class<T> type);
+
+    @Query("SELECT c.status, c.category, c.priority, COUNT(c) FROM Complaint c " +
+           "GROUP BY c.status, c.category, c.priority")
+    List<Object[]> countByStatusCategoryPriority();
+
+    // Backfills resolution rollups; must be consumed inside a read-only transaction
+    @QueryHints({
+            @QueryHint(name = "org.hibernate.fetchSize", value = "500"),
+            @QueryHint(name = "org.hibernate.readOnly", value = "true")
+    })
+    @Query("SELECT c.category, c.priority, c.createdAt, c.resolvedAt FROM Complaint c " +
+           "WHERE c.status = com.hostel.complaint.entity.Complaint.Status.RESOLVED AND c.resolvedAt IS NOT NULL")
+    Stream<Object[]> streamResolutionTimes();
+
+    // Seeds the hotspot windows; must be consumed inside a read-only transaction
+    @QueryHints({
+            @QueryHint(name = "org.hibernate.fetchSize", value = "500"),
+            @QueryHint(name = "org.hibernate.readOnly", value = "true")
+    })
+    @Query("SELECT c.roomNumber, c.category, c.createdAt FROM Complaint c " +
+           "WHERE c.createdAt >= :since AND c.roomNumber IS NOT NULL")
+    Stream<Object[]> streamRoomActivitySince(@Param("since") LocalDateTime since);
+
+    @Query("SELECT c.updatedAt FROM Complaint c WHERE c.id = :id")
+    Optional<LocalDateTime> findUpdatedAtById(@Param("id") Long id);
 }
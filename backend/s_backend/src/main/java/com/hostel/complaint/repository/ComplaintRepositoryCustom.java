@@ -0,0 +1,42 @@
+package com.hostel.complaint.repository;
+
+import com.hostel.complaint.dto.ChangeProbe;
+import com.hostel.complaint.entity.Complaint;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public interface ComplaintRepositoryCustom {
+
+    /*
+     * The filtered queries below are built per call with only the predicates
+     * whose argument is non-null, so each filter shape gets its own SQL and
+     * the planner can use that filter's index. A catch-all
+     * "(:x IS NULL OR c.x = :x)" query plans once for every shape and scans.
+     */
+
+    /**
+     * MAX(updatedAt) and COUNT(*) of the complaints matching every non-null
+     * filter; the conditional GET validator, answered without loading rows.
+     */
+    ChangeProbe probe(Complaint.Status status, Complaint.Category category, Long studentId, Long adminId);
+
+    /**
+     * Complaints matching every non-null filter, newest first, read from the
+     * cursor in chunks. Must be consumed inside a read-only transaction.
+     */
+    Stream<Complaint> streamForExport(Complaint.Status status, Complaint.Category category, Long studentId, Long adminId);
+
+    /**
+     * Reads the row, then issues one UPDATE that writes only the non-null
+     * fields of {@code changes}, bumps the version, stamps {@code updatedAt}
+     * and, when the status moves to RESOLVED from anything else, sets
+     * {@code resolvedAt}. The UPDATE is matched on id and version: the
+     * {@code expectedVersion} when given, otherwise the version just read,
+     * so a concurrent write between the read and the UPDATE is never lost.
+     *
+     * @return the row as it was before the update, detached; empty if the row
+     *         is gone or its version no longer matches {@code expectedVersion}
+     */
+    Optional<Complaint> updateChangedFields(Long id, Long expectedVersion, Complaint changes, LocalDateTime now);
+}
@@ -0,0 +1,116 @@
+package com.hostel.complaint.repository;
+
+import com.hostel.complaint.dto.ChangeProbe;
+import com.hostel.complaint.entity.Complaint;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+class ComplaintRepositoryImpl implements ComplaintRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public ChangeProbe probe(Complaint.Status status, Complaint.Category category, Long studentId, Long adminId) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ChangeProbe> query = cb.createQuery(ChangeProbe.class);
+        Root<Complaint> root = query.from(Complaint.class);
+        query.select(cb.construct(ChangeProbe.class, cb.greatest(root.<LocalDateTime>get("updatedAt")), cb.count(root)))
+                .where(filters(cb, root, status, category, studentId, adminId));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    @Override
+    public Stream<Complaint> streamForExport(Complaint.Status status, Complaint.Category category,
+                                             Long studentId, Long adminId) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Complaint> query = cb.createQuery(Complaint.class);
+        Root<Complaint> root = query.from(Complaint.class);
+        query.select(root)
+                .where(filters(cb, root, status, category, studentId, adminId))
+                .orderBy(cb.desc(root.get("createdAt")), cb.desc(root.get("id")));
+        return entityManager.createQuery(query)
+                .setHint("org.hibernate.fetchSize", 500)
+                .setHint("org.hibernate.readOnly", true)
+                .getResultStream();
+    }
+
+    private static Predicate[] filters(CriteriaBuilder cb, Root<Complaint> root, Complaint.Status status,
+                                       Complaint.Category category, Long studentId, Long adminId) {
+        List<Predicate> predicates = new ArrayList<>(4);
+        if (status != null) {
+            predicates.add(cb.equal(root.get("status"), status));
+        }
+        if (category != null) {
+            predicates.add(cb.equal(root.get("category"), category));
+        }
+        if (studentId != null) {
+            predicates.add(cb.equal(root.get("studentId"), studentId));
+        }
+        if (adminId != null) {
+            predicates.add(cb.equal(root.get("assignedToAdminId"), adminId));
+        }
+        return predicates.toArray(new Predicate[0]);
+    }
+
+    @Override
+    public Optional<Complaint> updateChangedFields(Long id, Long expectedVersion, Complaint changes, LocalDateTime now) {
+        Complaint previous = entityManager.find(Complaint.class, id);
+        if (previous == null) {
+            return Optional.empty();
+        }
+        // The pre-image must not stay managed: the caller turns it into the post-image, which must not be flushed
+        entityManager.detach(previous);
+        long version = expectedVersion != null ? expectedVersion : previous.getVersion();
+        if (previous.getVersion() != version) {
+            return Optional.empty();
+        }
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Complaint> update = cb.createCriteriaUpdate(Complaint.class);
+        Root<Complaint> root = update.from(Complaint.class);
+
+        if (changes.getTitle() != null) {
+            update.set(root.<String>get("title"), changes.getTitle());
+        }
+        if (changes.getDescription() != null) {
+            update.set(root.<String>get("description"), changes.getDescription());
+        }
+        if (changes.getCategory() != null) {
+            update.set(root.<Complaint.Category>get("category"), changes.getCategory());
+        }
+        if (changes.getPriority() != null) {
+            update.set(root.<Complaint.Priority>get("priority"), changes.getPriority());
+        }
+        if (changes.getStatus() != null) {
+            update.set(root.<Complaint.Status>get("status"), changes.getStatus());
+        }
+        if (changes.getAssignedToAdminId() != null) {
+            update.set(root.<Long>get("assignedToAdminId"), changes.getAssignedToAdminId());
+        }
+        if (changes.getAdminResponse() != null) {
+            update.set(root.<String>get("adminResponse"), changes.getAdminResponse());
+        }
+        // Safe to decide from the pre-image: the version guard below rejects the UPDATE if the row moved since
+        if (changes.getStatus() == Complaint.Status.RESOLVED && previous.getStatus() != Complaint.Status.RESOLVED) {
+            update.set(root.<LocalDateTime>get("resolvedAt"), now);
+        }
+        update.set(root.<LocalDateTime>get("updatedAt"), now);
+        update.set(root.<Long>get("version"), cb.sum(root.<Long>get("version"), 1L));
+        update.where(
+                cb.equal(root.get("id"), id),
+                cb.equal(root.get("version"), version));
+
+        return entityManager.createQuery(update).executeUpdate() == 1 ? Optional.of(previous) : Optional.empty();
+    }
+}
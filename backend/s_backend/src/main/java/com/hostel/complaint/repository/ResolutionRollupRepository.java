@@ -0,0 +1,31 @@
+package com.hostel.complaint.repository;
+
+import com.hostel.complaint.entity.Complaint;
+import com.hostel.complaint.entity.ResolutionRollup;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ResolutionRollupRepository extends JpaRepository<ResolutionRollup, Long> {
+
+    // Row lock so concurrent flushers (one per instance) serialise on the bucket
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<ResolutionRollup> findByResolvedOnAndCategoryAndPriority(LocalDate resolvedOn, Complaint.Category category,
+                                                                      Complaint.Priority priority);
+
+    @Query("SELECT r FROM ResolutionRollup r " +
+           "WHERE r.resolvedOn BETWEEN :from AND :to " +
+           "AND (:category IS NULL OR r.category = :category) " +
+           "AND (:priority IS NULL OR r.priority = :priority)")
+    List<ResolutionRollup> findInRange(@Param("from") LocalDate from,
+                                       @Param("to") LocalDate to,
+                                       @Param("category") Complaint.Category category,
+                                       @Param("priority") Complaint.Priority priority);
+}
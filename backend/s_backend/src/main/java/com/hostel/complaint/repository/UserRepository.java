@@ -1,8 +1,13 @@
 package com.hostel.complaint.repository;
 
+import com.hostel.complaint.dto.ChangeProbe;
 import com.hostel.complaint.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,4 +27,17 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByEmail(String email);
     
     boolean existsByFirebaseUid(String firebaseUid);
+
+    @Query("SELECT u.email FROM User u WHERE u.email IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    // Conditional GET validators; answered without loading user rows, one query per filter so each can use its index
+    @Query("SELECT new com.hostel.complaint.dto.ChangeProbe(MAX(u.updatedAt), COUNT(u)) FROM User u")
+    ChangeProbe probeAll();
+
+    @Query("SELECT new com.hostel.complaint.dto.ChangeProbe(MAX(u.updatedAt), COUNT(u)) FROM User u WHERE u.role = :role")
+    ChangeProbe probeByRole(@Param("role") User.Role role);
+
+    @Query("SELECT u.updatedAt FROM User u WHERE u.id = :id")
+    Optional<LocalDateTime> findUpdatedAtById(@Param("id") Long id);
 }
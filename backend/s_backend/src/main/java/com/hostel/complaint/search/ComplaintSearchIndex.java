@@ -0,0 +1,422 @@
+package com.hostel.complaint.search;
+
+import com.hostel.complaint.entity.Complaint;
+import com.hostel.complaint.event.ComplaintEvent;
+import com.hostel.complaint.repository.ComplaintRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-process inverted index over complaint titles and descriptions.
+ *
+ * Built from the repository at startup and then maintained from
+ * {@link ComplaintEvent}s. Results are ranked with BM25; title terms count
+ * double so a match in the title outranks one buried in the description.
+ *
+ * Postings are primitive sorted arrays ({@link PostingList}) and per-document
+ * data lives in an open-addressing {@link DocumentTable}, so the index costs
+ * tens of bytes per posting rather than boxed map entries. Queries walk the
+ * posting lists document-at-a-time with WAND: each term carries an upper
+ * bound on its score, and documents that cannot beat the current k-th best
+ * are skipped without being scored, so a common term no longer means
+ * scoring every complaint that contains it.
+ */
+@Component
+public class ComplaintSearchIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(ComplaintSearchIndex.class);
+
+    private static final int REBUILD_BATCH_SIZE = 1000;
+    private static final int TITLE_WEIGHT = 2;
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    @Autowired
+    private ComplaintRepository complaintRepository;
+
+    // Multi-term queries count matches exactly while their posting lists hold at most this many entries
+    @Value("${search.exact-count-threshold:10000}")
+    private int exactCountThreshold = 10_000;
+
+    // Deepest rank a page may reach; the top-k heap is sized to it, so it bounds the memory of one query
+    @Value("${search.max-result-window:10000}")
+    private int maxResultWindow = 10_000;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // term -> term id; the id indexes postings
+    private final Map<String, Integer> termIds = new HashMap<>();
+    private final List<PostingList> postings = new ArrayList<>();
+
+    private final DocumentTable documents = new DocumentTable();
+
+    private long totalLength;
+
+    @PostConstruct
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            termIds.clear();
+            postings.clear();
+            documents.clear();
+            totalLength = 0;
+
+            ScrollPosition position = ScrollPosition.keyset();
+            Window<Complaint> window;
+            do {
+                window = complaintRepository.findAllByOrderByCreatedAtDescIdDesc(
+                        position, Limit.of(REBUILD_BATCH_SIZE), Complaint.class);
+                for (Complaint complaint : window) {
+                    index(complaint);
+                }
+                if (!window.isEmpty()) {
+                    position = window.positionAt(window.size() - 1);
+                }
+            } while (window.hasNext());
+        } finally {
+            lock.writeLock().unlock();
+        }
+        logger.info("Indexed {} complaints for search in {} ms", size(), System.currentTimeMillis() - start);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onComplaintEvent(ComplaintEvent event) {
+        Complaint complaint = event.getComplaint();
+        lock.writeLock().lock();
+        try {
+            if (event.getType() == ComplaintEvent.Type.DELETED) {
+                remove(complaint.getId());
+            } else {
+                index(complaint);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the ids of the best matching complaints for the given page,
+     * together with the number of matches. The count is exact for single-term
+     * queries and for multi-term queries over small posting lists; otherwise
+     * it is a lower bound and {@link SearchResult#isTotalHitsExact()} is false.
+     *
+     * @throws IllegalArgumentException if the page reaches past
+     *         {@code search.max-result-window}
+     */
+    public SearchResult search(String query, int page, int size) {
+        long depth = ((long) page + 1) * size;
+        if (page < 0 || size < 1 || depth > maxResultWindow) {
+            throw new IllegalArgumentException("page and size must satisfy (page + 1) * size <= " + maxResultWindow);
+        }
+        Set<String> terms = new LinkedHashSet<>(TextAnalyzer.analyze(query));
+        if (terms.isEmpty()) {
+            return new SearchResult(List.of(), 0, true);
+        }
+
+        int wanted = (int) depth;
+        PriorityQueue<Hit> top = new PriorityQueue<>(wanted + 1);
+        long totalHits;
+        boolean exact;
+        lock.readLock().lock();
+        try {
+            int docCount = documents.size();
+            double averageLength = docCount == 0 ? 1 : (double) totalLength / docCount;
+
+            List<Cursor> cursors = new ArrayList<>(terms.size());
+            for (String term : terms) {
+                Integer termId = termIds.get(term);
+                if (termId != null && postings.get(termId).live > 0) {
+                    cursors.add(new Cursor(postings.get(termId), docCount, averageLength));
+                }
+            }
+            if (cursors.isEmpty()) {
+                return new SearchResult(List.of(), 0, true);
+            }
+
+            wand(cursors.toArray(new Cursor[0]), wanted, averageLength, top);
+
+            long postingCount = 0;
+            long largest = 0;
+            for (Cursor cursor : cursors) {
+                postingCount += cursor.list.live;
+                largest = Math.max(largest, cursor.list.live);
+            }
+            exact = cursors.size() == 1 || postingCount <= exactCountThreshold;
+            totalHits = cursors.size() == 1 ? largest : exact ? countUnion(cursors) : largest;
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<Long> ranked = new ArrayList<>(top.size());
+        while (!top.isEmpty()) {
+            ranked.add(top.poll().id);
+        }
+        Collections.reverse(ranked);
+        int from = Math.min(page * size, ranked.size());
+        return new SearchResult(ranked.subList(from, ranked.size()), totalHits, exact);
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /*
+     * Document-at-a-time WAND. Cursors are kept sorted by their current id;
+     * the pivot is the first cursor at which the summed upper bounds reach
+     * the threshold (the k-th best score so far). If the leading cursors are
+     * all on the pivot it is scored, otherwise they jump straight to it.
+     */
+    private void wand(Cursor[] cursors, int wanted, double averageLength, PriorityQueue<Hit> top) {
+        double threshold = Double.NEGATIVE_INFINITY;
+        while (true) {
+            sortByCurrentId(cursors);
+
+            int pivot = -1;
+            double bound = 0;
+            for (int i = 0; i < cursors.length && !cursors[i].exhausted(); i++) {
+                bound += cursors[i].upperBound;
+                // >= so a later (newer) complaint can still win a tie
+                if (bound >= threshold) {
+                    pivot = i;
+                    break;
+                }
+            }
+            if (pivot < 0) {
+                return;
+            }
+
+            long pivotId = cursors[pivot].id();
+            if (cursors[0].id() == pivotId) {
+                int slot = documents.find(pivotId);
+                int length = slot >= 0 ? documents.length(slot) : (int) averageLength;
+                double score = 0;
+                for (Cursor cursor : cursors) {
+                    if (cursor.exhausted() || cursor.id() != pivotId) {
+                        break;
+                    }
+                    score += cursor.score(length, averageLength);
+                    cursor.next();
+                }
+                if (top.size() < wanted) {
+                    top.offer(new Hit(pivotId, score));
+                } else if (top.peek().compareTo(new Hit(pivotId, score)) < 0) {
+                    top.poll();
+                    top.offer(new Hit(pivotId, score));
+                }
+                if (top.size() == wanted) {
+                    threshold = top.peek().score;
+                }
+            } else {
+                for (int i = 0; i < pivot; i++) {
+                    if (cursors[i].id() < pivotId) {
+                        cursors[i].advanceTo(pivotId);
+                    }
+                }
+            }
+        }
+    }
+
+    // Distinct ids across the cursors' posting lists; only called below exactCountThreshold postings
+    private static long countUnion(List<Cursor> cursors) {
+        Cursor[] counters = new Cursor[cursors.size()];
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] = cursors.get(i).restart();
+        }
+        long count = 0;
+        while (true) {
+            long lowest = Long.MAX_VALUE;
+            for (Cursor cursor : counters) {
+                if (!cursor.exhausted()) {
+                    lowest = Math.min(lowest, cursor.id());
+                }
+            }
+            if (lowest == Long.MAX_VALUE) {
+                return count;
+            }
+            count++;
+            for (Cursor cursor : counters) {
+                if (!cursor.exhausted() && cursor.id() == lowest) {
+                    cursor.next();
+                }
+            }
+        }
+    }
+
+    private static void sortByCurrentId(Cursor[] cursors) {
+        // Queries have a handful of terms, so insertion sort beats anything cleverer
+        for (int i = 1; i < cursors.length; i++) {
+            Cursor cursor = cursors[i];
+            int j = i - 1;
+            while (j >= 0 && cursors[j].id() > cursor.id()) {
+                cursors[j + 1] = cursors[j];
+                j--;
+            }
+            cursors[j + 1] = cursor;
+        }
+    }
+
+    private void index(Complaint complaint) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (String term : TextAnalyzer.analyze(complaint.getTitle())) {
+            frequencies.merge(term, TITLE_WEIGHT, Integer::sum);
+        }
+        for (String term : TextAnalyzer.analyze(complaint.getDescription())) {
+            frequencies.merge(term, 1, Integer::sum);
+        }
+
+        int[] ids = new int[frequencies.size()];
+        int[] counts = new int[frequencies.size()];
+        int length = 0;
+        int n = 0;
+        for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+            ids[n] = termIds.computeIfAbsent(entry.getKey(), term -> {
+                postings.add(new PostingList());
+                return postings.size() - 1;
+            });
+            counts[n] = entry.getValue();
+            length += entry.getValue();
+            n++;
+        }
+        long fingerprint = fingerprint(ids, counts);
+
+        long id = complaint.getId();
+        int slot = documents.find(id);
+        if (slot >= 0 && documents.fingerprint(slot) == fingerprint && documents.length(slot) == length) {
+            // Status, priority or assignment change: the text and therefore the postings are unchanged
+            return;
+        }
+        remove(id);
+
+        for (int i = 0; i < ids.length; i++) {
+            postings.get(ids[i]).put(id, counts[i], length);
+        }
+        documents.put(id, length, ids, fingerprint);
+        totalLength += length;
+    }
+
+    private void remove(long id) {
+        int slot = documents.find(id);
+        if (slot < 0) {
+            return;
+        }
+        for (int termId : documents.terms(slot)) {
+            postings.get(termId).remove(id);
+        }
+        totalLength -= documents.length(slot);
+        documents.remove(slot);
+    }
+
+    // Order-independent, so the same text always fingerprints the same whatever the map iteration order
+    private static long fingerprint(int[] ids, int[] counts) {
+        long sum = 0;
+        for (int i = 0; i < ids.length; i++) {
+            long h = ((long) ids[i] << 32 | counts[i]) * 0x9E3779B97F4A7C15L;
+            sum += h ^ (h >>> 29);
+        }
+        return sum;
+    }
+
+    private static final class Cursor {
+        private final PostingList list;
+        private final double idf;
+        private final double upperBound;
+        private int position;
+
+        private Cursor(PostingList list, int docCount, double averageLength) {
+            this.list = list;
+            this.idf = Math.log(1 + (docCount - list.live + 0.5) / (list.live + 0.5));
+            // Highest frequency in the shortest document bounds every posting's score
+            double tf = list.maxFrequency;
+            this.upperBound = idf * tf * (K1 + 1) / (tf + K1 * (1 - B + B * list.minLength / averageLength));
+            this.position = list.skipTombstones(0);
+        }
+
+        private Cursor(Cursor other) {
+            this.list = other.list;
+            this.idf = other.idf;
+            this.upperBound = other.upperBound;
+            this.position = list.skipTombstones(0);
+        }
+
+        Cursor restart() {
+            return new Cursor(this);
+        }
+
+        boolean exhausted() {
+            return position >= list.size;
+        }
+
+        long id() {
+            return exhausted() ? Long.MAX_VALUE : list.ids[position];
+        }
+
+        void next() {
+            position = list.skipTombstones(position + 1);
+        }
+
+        void advanceTo(long target) {
+            position = list.seek(position, target);
+        }
+
+        double score(int length, double averageLength) {
+            int tf = list.frequencies[position];
+            return idf * tf * (K1 + 1) / (tf + K1 * (1 - B + B * length / averageLength));
+        }
+    }
+
+    // Ordered worst first, so the queue head is the hit to drop; ties go to the newer complaint
+    private static final class Hit implements Comparable<Hit> {
+        private final long id;
+        private final double score;
+
+        private Hit(long id, double score) {
+            this.id = id;
+            this.score = score;
+        }
+
+        @Override
+        public int compareTo(Hit other) {
+            int byScore = Double.compare(score, other.score);
+            return byScore != 0 ? byScore : Long.compare(id, other.id);
+        }
+    }
+
+    public static final class SearchResult {
+        private final List<Long> ids;
+        private final long totalHits;
+        private final boolean totalHitsExact;
+
+        public SearchResult(List<Long> ids, long totalHits, boolean totalHitsExact) {
+            this.ids = ids;
+            this.totalHits = totalHits;
+            this.totalHitsExact = totalHitsExact;
+        }
+
+        public List<Long> getIds() { return ids; }
+        public long getTotalHits() { return totalHits; }
+        public boolean isTotalHitsExact() { return totalHitsExact; }
+    }
+}
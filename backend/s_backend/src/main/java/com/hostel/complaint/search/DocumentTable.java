@@ -0,0 +1,126 @@
+package com.hostel.complaint.search;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing map from complaint id to what the index keeps per
+ * document: its weighted length, the ids of its distinct terms (to find its
+ * postings on removal) and a fingerprint of its term frequencies (to skip
+ * re-indexing when an update did not change the text). Linear probing with
+ * backward-shift deletion, so there are no tombstones to clean up.
+ */
+final class DocumentTable {
+
+    private static final long EMPTY = Long.MIN_VALUE;
+
+    private long[] keys;
+    private int[] lengths;
+    private int[][] terms;
+    private long[] fingerprints;
+    private int size;
+
+    DocumentTable() {
+        allocate(1024);
+    }
+
+    int size() {
+        return size;
+    }
+
+    void clear() {
+        allocate(1024);
+    }
+
+    /** Slot holding {@code id}, or -1. */
+    int find(long id) {
+        int mask = keys.length - 1;
+        for (int slot = mix(id) & mask; ; slot = (slot + 1) & mask) {
+            if (keys[slot] == id) {
+                return slot;
+            }
+            if (keys[slot] == EMPTY) {
+                return -1;
+            }
+        }
+    }
+
+    int length(int slot) {
+        return lengths[slot];
+    }
+
+    int[] terms(int slot) {
+        return terms[slot];
+    }
+
+    long fingerprint(int slot) {
+        return fingerprints[slot];
+    }
+
+    void put(long id, int length, int[] termIds, long fingerprint) {
+        if ((size + 1) * 2 > keys.length) {
+            resize(keys.length * 2);
+        }
+        int mask = keys.length - 1;
+        int slot = mix(id) & mask;
+        while (keys[slot] != EMPTY && keys[slot] != id) {
+            slot = (slot + 1) & mask;
+        }
+        if (keys[slot] == EMPTY) {
+            size++;
+        }
+        keys[slot] = id;
+        lengths[slot] = length;
+        terms[slot] = termIds;
+        fingerprints[slot] = fingerprint;
+    }
+
+    void remove(int slot) {
+        int mask = keys.length - 1;
+        int hole = slot;
+        // Shift later entries of the same probe run back so lookups never stop early
+        for (int next = (hole + 1) & mask; keys[next] != EMPTY; next = (next + 1) & mask) {
+            int home = mix(keys[next]) & mask;
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                move(next, hole);
+                hole = next;
+            }
+        }
+        keys[hole] = EMPTY;
+        terms[hole] = null;
+        size--;
+    }
+
+    private void move(int from, int to) {
+        keys[to] = keys[from];
+        lengths[to] = lengths[from];
+        terms[to] = terms[from];
+        fingerprints[to] = fingerprints[from];
+    }
+
+    private void resize(int capacity) {
+        long[] oldKeys = keys;
+        int[] oldLengths = lengths;
+        int[][] oldTerms = terms;
+        long[] oldFingerprints = fingerprints;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                put(oldKeys[i], oldLengths[i], oldTerms[i], oldFingerprints[i]);
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        Arrays.fill(keys, EMPTY);
+        lengths = new int[capacity];
+        terms = new int[capacity][];
+        fingerprints = new long[capacity];
+        size = 0;
+    }
+
+    private static int mix(long id) {
+        long h = id * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
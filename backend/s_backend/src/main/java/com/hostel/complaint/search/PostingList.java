@@ -0,0 +1,104 @@
+package com.hostel.complaint.search;
+
+import java.util.Arrays;
+
+/**
+ * Complaint ids containing one term, in ascending order, with the weighted
+ * term frequency for each. Stored as parallel primitive arrays (10 bytes per
+ * posting) rather than boxed maps.
+ *
+ * Removal leaves a tombstone (frequency 0) that readers skip; the arrays are
+ * compacted once tombstones outnumber live postings. {@code maxFrequency} and
+ * {@code minLength} only ever widen, so they stay valid upper-bound inputs
+ * for score pruning even after removals.
+ */
+final class PostingList {
+
+    private static final int INITIAL_CAPACITY = 4;
+
+    long[] ids = new long[INITIAL_CAPACITY];
+    short[] frequencies = new short[INITIAL_CAPACITY];
+    int size;
+    int live;
+
+    int maxFrequency;
+    int minLength = Integer.MAX_VALUE;
+
+    void put(long id, int frequency, int documentLength) {
+        short stored = (short) Math.min(Math.max(frequency, 1), Short.MAX_VALUE);
+        maxFrequency = Math.max(maxFrequency, stored);
+        minLength = Math.min(minLength, documentLength);
+
+        // New complaints arrive in id order, so this is almost always an append
+        int index = size > 0 && ids[size - 1] < id ? -(size + 1) : Arrays.binarySearch(ids, 0, size, id);
+        if (index >= 0) {
+            if (frequencies[index] == 0) {
+                live++;
+            }
+            frequencies[index] = stored;
+            return;
+        }
+        int insertAt = -(index + 1);
+        if (size == ids.length) {
+            int capacity = size + (size >> 1) + 1;
+            ids = Arrays.copyOf(ids, capacity);
+            frequencies = Arrays.copyOf(frequencies, capacity);
+        }
+        System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+        System.arraycopy(frequencies, insertAt, frequencies, insertAt + 1, size - insertAt);
+        ids[insertAt] = id;
+        frequencies[insertAt] = stored;
+        size++;
+        live++;
+    }
+
+    void remove(long id) {
+        int index = Arrays.binarySearch(ids, 0, size, id);
+        if (index < 0 || frequencies[index] == 0) {
+            return;
+        }
+        frequencies[index] = 0;
+        live--;
+        if (size > 64 && live < size / 2) {
+            compact();
+        }
+    }
+
+    /** Index of the first live posting at or after {@code from} whose id is at least {@code target}. */
+    int seek(int from, long target) {
+        // Gallop, then binary search inside the last step
+        int low = from;
+        int step = 1;
+        int high = from;
+        while (high < size && ids[high] < target) {
+            low = high + 1;
+            high = from + step;
+            step <<= 1;
+        }
+        high = Math.min(high, size);
+        int index = Arrays.binarySearch(ids, low, high, target);
+        return skipTombstones(index >= 0 ? index : -(index + 1));
+    }
+
+    int skipTombstones(int index) {
+        while (index < size && frequencies[index] == 0) {
+            index++;
+        }
+        return index;
+    }
+
+    private void compact() {
+        int write = 0;
+        for (int read = 0; read < size; read++) {
+            if (frequencies[read] != 0) {
+                ids[write] = ids[read];
+                frequencies[write] = frequencies[read];
+                write++;
+            }
+        }
+        size = write;
+        int capacity = Math.max(INITIAL_CAPACITY, size + (size >> 2));
+        ids = Arrays.copyOf(ids, capacity);
+        frequencies = Arrays.copyOf(frequencies, capacity);
+    }
+}
@@ -0,0 +1,78 @@
+package com.hostel.complaint.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Lowercases, splits on non-alphanumerics, drops stop words and applies a
+ * light suffix-stripping stemmer so "leaking", "leaks" and "leaked" match.
+ */
+final class TextAnalyzer {
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "but", "by", "for", "from", "has", "have",
+            "i", "in", "is", "it", "its", "my", "no", "not", "of", "on", "or", "our", "so", "that",
+            "the", "their", "there", "this", "to", "was", "we", "were", "with", "you");
+
+    private TextAnalyzer() {
+    }
+
+    static List<String> analyze(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return terms;
+        }
+        String lower = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= lower.length(); i++) {
+            boolean wordChar = i < lower.length() && Character.isLetterOrDigit(lower.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                String token = lower.substring(start, i);
+                start = -1;
+                if (!STOP_WORDS.contains(token)) {
+                    terms.add(stem(token));
+                }
+            }
+        }
+        return terms;
+    }
+
+    static String stem(String word) {
+        if (word.length() <= 3 || !Character.isLetter(word.charAt(0))) {
+            return word;
+        }
+        if (word.endsWith("ies") && word.length() > 4) {
+            return word.substring(0, word.length() - 3) + "y";
+        }
+        if (word.endsWith("sses")) {
+            return word.substring(0, word.length() - 2);
+        }
+        String stem = word;
+        boolean stripped = false;
+        for (String suffix : new String[] {"ingly", "edly", "ing", "ed", "ly", "es", "s"}) {
+            if (word.endsWith(suffix) && word.length() - suffix.length() >= 3) {
+                if (suffix.equals("s") && word.endsWith("ss")) {
+                    break;
+                }
+                stem = word.substring(0, word.length() - suffix.length());
+                stripped = true;
+                break;
+            }
+        }
+        // "leaking" -> "leak", "clogged" -> "clog", "running" -> "run"
+        int n = stem.length();
+        if (stripped && n >= 3 && stem.charAt(n - 1) == stem.charAt(n - 2)
+                && "lsz".indexOf(stem.charAt(n - 1)) < 0 && !isVowel(stem.charAt(n - 1))) {
+            stem = stem.substring(0, n - 1);
+        }
+        return stem;
+    }
+
+    private static boolean isVowel(char c) {
+        return "aeiou".indexOf(c) >= 0;
+    }
+}
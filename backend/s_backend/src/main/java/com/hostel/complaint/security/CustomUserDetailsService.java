@@ -2,15 +2,22 @@ package com.hostel.complaint.security;
 
 import com.hostel.complaint.entity.User;
 import com.hostel.complaint.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Service
 public class CustomUserDetailsService implements UserDetailsService {
@@ -18,42 +25,192 @@ public class CustomUserDetailsService implements UserDetailsService {
     @Autowired
     private UserRepository userRepository;
 
+    @Value("${security.principal-cache.ttl-ms:60000}")
+    private long cacheTtlMs;
+
+    @Value("${security.principal-cache.max-entries:10000}")
+    private int cacheMaxEntries;
+
+    // Lock stripes for the principal cache; each is an independent LRU
+    private static final int CACHE_STRIPES = 16;
+
+    // Principals keyed by email, dropped after the TTL or when least recently used; UserService
+    // evicts on every write to a user. Null when security.principal-cache.max-entries is 0
+    private PrincipalStripe[] principals;
+
+    // Bumped by every evict; a load only caches its result if no evict ran since it started reading
+    private final AtomicLong generation = new AtomicLong();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    @PostConstruct
+    public void init() {
+        if (cacheMaxEntries > 0) {
+            int perStripe = Math.max(1, cacheMaxEntries / CACHE_STRIPES);
+            principals = new PrincipalStripe[CACHE_STRIPES];
+            for (int i = 0; i < CACHE_STRIPES; i++) {
+                principals[i] = new PrincipalStripe(perStripe);
+            }
+        }
+    }
+
     @Override
-    public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
+    public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+        String email = User.normalizeEmail(username);
+        long now = System.currentTimeMillis();
+        PrincipalStripe stripe = stripeFor(email);
+        CachedPrincipal cached = stripe == null ? null : stripe.get(email, now);
+        if (cached != null) {
+            hits.incrementAndGet();
+            return cached.toUserDetails();
+        }
+        misses.incrementAndGet();
+
+        long startedAt = generation.get();
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
 
-        List<GrantedAuthority> authorities = Collections.singletonList(
-                new SimpleGrantedAuthority("ROLE_" + user.getRole().name())
-        );
-
-        return new org.springframework.security.core.userdetails.User(
-                user.getEmail(),
-                user.getPassword(),
-                user.getActive(),
-                true,
-                true,
-                true,
-                authorities
-        );
+        CachedPrincipal fresh = new CachedPrincipal(user, now + cacheTtlMs);
+        if (stripe != null) {
+            stripe.putUnlessEvicted(email, fresh, startedAt);
+        }
+        return fresh.toUserDetails();
     }
 
     public UserDetails loadUserById(Long id) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with id: " + id));
 
-        List<GrantedAuthority> authorities = Collections.singletonList(
-                new SimpleGrantedAuthority("ROLE_" + user.getRole().name())
-        );
-
-        return new org.springframework.security.core.userdetails.User(
-                user.getEmail(),
-                user.getPassword(),
-                user.getActive(),
-                true,
-                true,
-                true,
-                authorities
-        );
+        return new CachedPrincipal(user, 0).toUserDetails();
+    }
+
+    /**
+     * Drops the cached principal now and, when called inside a transaction,
+     * again after it commits so a load that read the pre-commit row cannot
+     * leave it cached.
+     */
+    public void evict(String email) {
+        if (email == null) {
+            return;
+        }
+        String key = User.normalizeEmail(email);
+        evictNow(key);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(key);
+                }
+            });
+        }
+    }
+
+    private void evictNow(String email) {
+        PrincipalStripe stripe = stripeFor(email);
+        if (stripe == null) {
+            generation.incrementAndGet();
+        } else if (stripe.evict(email)) {
+            evictions.incrementAndGet();
+        }
+    }
+
+    private PrincipalStripe stripeFor(String email) {
+        return principals == null ? null : principals[Math.floorMod(email.hashCode(), CACHE_STRIPES)];
+    }
+
+    public Map<String, Object> getCacheStats() {
+        long hitCount = hits.get();
+        long missCount = misses.get();
+        long lookups = hitCount + missCount;
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        int size = 0;
+        if (principals != null) {
+            for (PrincipalStripe stripe : principals) {
+                size += stripe.size();
+            }
+        }
+        stats.put("size", size);
+        stats.put("hits", hitCount);
+        stats.put("misses", missCount);
+        stats.put("evictions", evictions.get());
+        stats.put("hitRatio", lookups == 0 ? 0.0 : (double) hitCount / lookups);
+        return stats;
+    }
+
+    // Holds the user's fields rather than a UserDetails: ProviderManager erases the
+    // credentials of the principal it returns, so a shared instance loses its hash
+    private static final class CachedPrincipal {
+        private final String email;
+        private final String password;
+        private final boolean active;
+        private final User.Role role;
+        private final long expiresAt;
+
+        private CachedPrincipal(User user, long expiresAt) {
+            this.email = user.getEmail();
+            this.password = user.getPassword();
+            this.active = user.getActive();
+            this.role = user.getRole();
+            this.expiresAt = expiresAt;
+        }
+
+        private UserDetails toUserDetails() {
+            List<GrantedAuthority> authorities = Collections.singletonList(
+                    new SimpleGrantedAuthority("ROLE_" + role.name())
+            );
+
+            return new org.springframework.security.core.userdetails.User(
+                    email,
+                    password,
+                    active,
+                    true,
+                    true,
+                    true,
+                    authorities
+            );
+        }
+    }
+
+    // Access-ordered map; a hit moves the principal to the tail and inserts past capacity drop the head.
+    // The generation is bumped and checked under the stripe's lock, so a row read before a concurrent
+    // evict of the same email is never stored after it
+    private final class PrincipalStripe {
+        private final LinkedHashMap<String, CachedPrincipal> entries;
+
+        private PrincipalStripe(int capacity) {
+            this.entries = new LinkedHashMap<>(capacity * 4 / 3 + 1, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, CachedPrincipal> eldest) {
+                    return size() > capacity;
+                }
+            };
+        }
+
+        synchronized CachedPrincipal get(String email, long now) {
+            CachedPrincipal principal = entries.get(email);
+            if (principal != null && principal.expiresAt <= now) {
+                entries.remove(email);
+                return null;
+            }
+            return principal;
+        }
+
+        synchronized void putUnlessEvicted(String email, CachedPrincipal principal, long startedAt) {
+            if (generation.get() == startedAt) {
+                entries.put(email, principal);
+            }
+        }
+
+        synchronized boolean evict(String email) {
+            generation.incrementAndGet();
+            return entries.remove(email) != null;
+        }
+
+        synchronized int size() {
+            return entries.size();
+        }
     }
 }
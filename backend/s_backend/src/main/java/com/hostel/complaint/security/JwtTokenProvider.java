@@ -2,11 +2,19 @@ package com.hostel.complaint.security;
 
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
 
 @Component
 public class JwtTokenProvider {
@@ -17,21 +25,37 @@ public class JwtTokenProvider {
     @Value("${jwt.expiration}")
     private long jwtExpiration;
 
-    private Key getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtSecret.getBytes());
+    @Value("${jwt.cache.max-entries:10000}")
+    private int cacheMaxEntries;
+
+    private Key signingKey;
+
+    private JwtParser parser;
+
+    // Lock stripes for the verified-token cache; each is an independent LRU
+    private static final int CACHE_STRIPES = 16;
+
+    // Already-verified tokens keyed by SHA-256 digest, dropped at the token's exp or when least recently
+    // used; null when jwt.cache.max-entries is 0
+    private TokenStripe[] verifiedTokens;
+
+    @PostConstruct
+    public void init() {
+        if (cacheMaxEntries > 0) {
+            int perStripe = Math.max(1, cacheMaxEntries / CACHE_STRIPES);
+            verifiedTokens = new TokenStripe[CACHE_STRIPES];
+            for (int i = 0; i < CACHE_STRIPES; i++) {
+                verifiedTokens[i] = new TokenStripe(perStripe);
+            }
+        }
+        signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes());
+        parser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
     }
 
     public String generateToken(Authentication authentication) {
-        String email = authentication.getName();
-        Date now = new Date();
-        Date expiryDate = new Date(now.getTime() + jwtExpiration);
-
-        return Jwts.builder()
-                .setSubject(email)
-                .setIssuedAt(now)
-                .setExpiration(expiryDate)
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
-                .compact();
+        return generateTokenFromEmail(authentication.getName());
     }
 
     public String generateTokenFromEmail(String email) {
@@ -42,29 +66,97 @@ public class JwtTokenProvider {
                 .setSubject(email)
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
     public String getEmailFromToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-
-        return claims.getSubject();
+        return validateAndGetClaims(token)
+                .map(Claims::getSubject)
+                .orElseThrow(() -> new JwtException("Invalid JWT token"));
     }
 
     public boolean validateToken(String authToken) {
+        return validateAndGetClaims(authToken).isPresent();
+    }
+
+    /**
+     * Parses and verifies the token once, returning its claims. Tokens that
+     * already verified are served from a bounded LRU cache until they expire;
+     * when the cache is full the least recently used token makes room.
+     */
+    public Optional<Claims> validateAndGetClaims(String authToken) {
+        if (authToken == null || authToken.isEmpty()) {
+            return Optional.empty();
+        }
+
+        TokenStripe stripe = null;
+        String digest = null;
+        if (verifiedTokens != null) {
+            digest = digest(authToken);
+            stripe = verifiedTokens[Math.floorMod(digest.hashCode(), CACHE_STRIPES)];
+            VerifiedToken cached = stripe.get(digest, System.currentTimeMillis());
+            if (cached != null) {
+                return Optional.of(cached.claims);
+            }
+        }
+
+        Claims claims;
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(getSigningKey())
-                    .build()
-                    .parseClaimsJws(authToken);
-            return true;
+            claims = parser.parseClaimsJws(authToken).getBody();
         } catch (JwtException | IllegalArgumentException e) {
-            return false;
+            return Optional.empty();
+        }
+
+        if (stripe != null && claims.getExpiration() != null) {
+            stripe.put(digest, new VerifiedToken(claims, claims.getExpiration().getTime()));
+        }
+        return Optional.of(claims);
+    }
+
+    private static String digest(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(sha256.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static final class VerifiedToken {
+        private final Claims claims;
+        private final long expiresAt;
+
+        private VerifiedToken(Claims claims, long expiresAt) {
+            this.claims = claims;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    // Access-ordered map; a hit moves the token to the tail and inserts past capacity drop the head
+    private static final class TokenStripe {
+        private final LinkedHashMap<String, VerifiedToken> tokens;
+
+        private TokenStripe(int capacity) {
+            this.tokens = new LinkedHashMap<>(capacity * 4 / 3 + 1, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, VerifiedToken> eldest) {
+                    return size() > capacity;
+                }
+            };
+        }
+
+        synchronized VerifiedToken get(String digest, long now) {
+            VerifiedToken token = tokens.get(digest);
+            if (token != null && token.expiresAt <= now) {
+                tokens.remove(digest);
+                return null;
+            }
+            return token;
+        }
+
+        synchronized void put(String digest, VerifiedToken token) {
+            tokens.put(digest, token);
         }
     }
 }
@@ -0,0 +1,8 @@
+package com.hostel.complaint.security;
+
+public class PasswordHashingRejectedException extends RuntimeException {
+
+    public PasswordHashingRejectedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,162 @@
+package com.hostel.complaint.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-client token buckets for the routes listed in {@code rate-limit.routes}.
+ *
+ * Each bucket is a single {@link AtomicLong} holding the bucket's theoretical
+ * arrival time (GCRA): admitting a request is one CAS, with no locks and no
+ * allocation once the bucket exists. A bucket whose arrival time has passed
+ * is full again and indistinguishable from a new one, so the sweeper simply
+ * drops it. When a route already tracks {@code rate-limit.max-keys} clients,
+ * further clients share one overflow bucket instead of growing the map.
+ */
+@Component
+public class RateLimiter {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${rate-limit.enabled:true}")
+    private boolean enabled;
+
+    // Comma-separated "METHOD /path:permitsPerMinute:burst" entries
+    @Value("${rate-limit.routes:}")
+    private String routeSpecs;
+
+    @Value("${rate-limit.max-keys:100000}")
+    private int maxKeys;
+
+    @Value("${rate-limit.sweep-interval-ms:60000}")
+    private long sweepIntervalMs;
+
+    // method -> path -> route; exact matches only, so the lookup is two map gets
+    private final Map<String, Map<String, Route>> routes = new HashMap<>();
+
+    private ScheduledExecutorService sweeper;
+
+    @PostConstruct
+    public void start() {
+        for (String entry : routeSpecs.split(",")) {
+            String spec = entry.trim();
+            if (spec.isEmpty()) {
+                continue;
+            }
+            String[] parts = spec.split(":");
+            String[] endpoint = parts[0].trim().split("\\s+");
+            if (parts.length != 3 || endpoint.length != 2) {
+                throw new IllegalArgumentException("Expected 'METHOD /path:permitsPerMinute:burst' in rate-limit.routes, got: " + spec);
+            }
+            Route route = new Route(spec, endpoint[0].toUpperCase() + " " + endpoint[1],
+                    Integer.parseInt(parts[1].trim()), Integer.parseInt(parts[2].trim()));
+            routes.computeIfAbsent(endpoint[0].toUpperCase(), method -> new HashMap<>()).put(endpoint[1], route);
+        }
+
+        sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "rate-limit-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        sweeper.scheduleWithFixedDelay(this::evictIdle, sweepIntervalMs, sweepIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        sweeper.shutdownNow();
+    }
+
+    /**
+     * Returns the limited route for this request, or null when it is not rate limited.
+     */
+    public Route routeFor(String method, String path) {
+        if (!enabled) {
+            return null;
+        }
+        Map<String, Route> byPath = routes.get(method);
+        return byPath != null ? byPath.get(path) : null;
+    }
+
+    private void evictIdle() {
+        long now = System.nanoTime();
+        for (Map<String, Route> byPath : routes.values()) {
+            for (Route route : byPath.values()) {
+                route.buckets.values().removeIf(bucket -> bucket.get() - now <= 0);
+            }
+        }
+    }
+
+    public final class Route {
+        private final String spec;
+        private final String endpoint;
+        private final long emissionIntervalNanos;
+        private final long burstToleranceNanos;
+        // Keyed by the client key's type ("user" or "ip"); per-client tags would be unbounded
+        private final ConcurrentHashMap<String, Counter> rejected = new ConcurrentHashMap<>();
+        private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+        private final AtomicLong overflow = new AtomicLong(System.nanoTime());
+
+        private Route(String spec, String endpoint, int permitsPerMinute, int burst) {
+            if (permitsPerMinute <= 0 || burst <= 0) {
+                throw new IllegalArgumentException("Rate limit permits and burst must be positive: " + spec);
+            }
+            this.spec = spec;
+            this.endpoint = endpoint;
+            this.emissionIntervalNanos = TimeUnit.MINUTES.toNanos(1) / permitsPerMinute;
+            this.burstToleranceNanos = emissionIntervalNanos * burst;
+        }
+
+        /**
+         * Takes one permit for the given client. Returns 0 when admitted,
+         * otherwise the nanoseconds until a permit becomes available.
+         */
+        public long tryAcquire(String clientKey) {
+            long now = System.nanoTime();
+            AtomicLong bucket = buckets.get(clientKey);
+            if (bucket == null) {
+                // Full maps are left to the sweeper; sweeping inline would make new clients O(max-keys)
+                bucket = buckets.size() < maxKeys
+                        ? buckets.computeIfAbsent(clientKey, key -> new AtomicLong(now))
+                        : overflow;
+            }
+
+            while (true) {
+                long arrival = bucket.get();
+                long next = Math.max(arrival, now) + emissionIntervalNanos;
+                long wait = next - now - burstToleranceNanos;
+                if (wait > 0) {
+                    rejected(clientKey).increment();
+                    return wait;
+                }
+                if (bucket.compareAndSet(arrival, next)) {
+                    return 0;
+                }
+            }
+        }
+
+        private Counter rejected(String clientKey) {
+            int separator = clientKey.indexOf(':');
+            String keyType = separator > 0 ? clientKey.substring(0, separator) : "other";
+            return rejected.computeIfAbsent(keyType, type ->
+                    meterRegistry.counter("rate.limit.rejected", "route", endpoint, "key", type));
+        }
+
+        @Override
+        public String toString() {
+            return spec;
+        }
+    }
+}
@@ -1,10 +1,13 @@
 package com.hostel.complaint.service;
 
 import com.google.firebase.auth.FirebaseAuth;
+import com.google.firebase.auth.FirebaseAuthException;
 import com.google.firebase.auth.FirebaseToken;
 import com.hostel.complaint.entity.User;
 import com.hostel.complaint.repository.UserRepository;
 import com.hostel.complaint.security.JwtTokenProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -30,7 +33,11 @@ public class AuthService {
     @Autowired
     private AuthenticationManager authenticationManager;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     public Map<String, Object> register(User user) {
+        user.setEmail(User.normalizeEmail(user.getEmail()));
         if (userRepository.existsByEmail(user.getEmail())) {
             throw new RuntimeException("Email already exists");
         }
@@ -49,7 +56,8 @@ public class AuthService {
         return response;
     }
 
-    public Map<String, Object> login(String email, String password) {
+    public Map<String, Object> login(String rawEmail, String password) {
+        String email = User.normalizeEmail(rawEmail);
         Authentication authentication = authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(email, password)
         );
@@ -70,12 +78,12 @@ public class AuthService {
 
     public Map<String, Object> loginWithFirebaseToken(String firebaseToken) {
         try {
-            FirebaseToken decodedToken = FirebaseAuth.getInstance().verifyIdToken(firebaseToken);
+            FirebaseToken decodedToken = verifyFirebaseToken(firebaseToken);
             String firebaseUid = decodedToken.getUid();
             String email = decodedToken.getEmail();
 
             User user = userRepository.findByFirebaseUid(firebaseUid)
-                    .or(() -> userRepository.findByEmail(email))
+                    .or(() -> userRepository.findByEmail(User.normalizeEmail(email)))
                     .orElseThrow(() -> new RuntimeException("User not found"));
 
             if (user.getFirebaseUid() == null) {
@@ -96,6 +104,18 @@ public class AuthService {
         }
     }
 
+    private FirebaseToken verifyFirebaseToken(String firebaseToken) throws FirebaseAuthException {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            FirebaseToken decodedToken = FirebaseAuth.getInstance().verifyIdToken(firebaseToken);
+            outcome = "success";
+            return decodedToken;
+        } finally {
+            sample.stop(meterRegistry.timer("firebase.calls", "operation", "verifyIdToken", "outcome", outcome));
+        }
+    }
+
     private Map<String, Object> sanitizeUser(User user) {
         Map<String, Object> sanitized = new HashMap<>();
         sanitized.put("id", user.getId());
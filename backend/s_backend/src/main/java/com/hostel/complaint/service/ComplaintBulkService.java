@@ -0,0 +1,247 @@
+package com.hostel.complaint.service;
+
+import com.hostel.complaint.dto.ComplaintBulkRequest;
+import com.hostel.complaint.entity.Complaint;
+import com.hostel.complaint.event.ComplaintEvent;
+import com.hostel.complaint.repository.ComplaintRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.sql.Savepoint;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Applies one admin action to many complaints in a single transaction: one
+ * IN query to read current state, then one JDBC batch of version-guarded
+ * statements, so the cost grows with the batch rather than with round trips.
+ *
+ * Only an update count of exactly 1 means the row was written. Drivers may
+ * answer a batch with {@link Statement#SUCCESS_NO_INFO} instead of counts;
+ * the batch then runs behind a savepoint, which is rolled back and replayed
+ * row by row so every outcome is known. {@link Statement#EXECUTE_FAILED}
+ * is reported as ERROR.
+ */
+@Service
+public class ComplaintBulkService {
+
+    private static final String UPDATE_STATUS_SQL =
+            "UPDATE complaints SET status = ?, admin_response = COALESCE(?, admin_response), resolved_at = ?, " +
+            "updated_at = ?, version = version + 1 WHERE id = ? AND version = ?";
+
+    private static final String UPDATE_ASSIGNEE_SQL =
+            "UPDATE complaints SET assigned_to_admin_id = ?, updated_at = ?, version = version + 1 " +
+            "WHERE id = ? AND version = ?";
+
+    private static final String UPDATE_PRIORITY_SQL =
+            "UPDATE complaints SET priority = ?, updated_at = ?, version = version + 1 WHERE id = ? AND version = ?";
+
+    private static final String DELETE_SQL = "DELETE FROM complaints WHERE id = ? AND version = ?";
+
+    @Autowired
+    private ComplaintRepository complaintRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${complaints.bulk.max-ids:1000}")
+    private int maxIds;
+
+    @Transactional
+    public Map<String, Object> apply(ComplaintBulkRequest request) {
+        validate(request);
+
+        Set<Long> ids = new LinkedHashSet<>(request.getIds());
+        Map<Long, Complaint> current = new HashMap<>();
+        for (Complaint complaint : complaintRepository.findAllById(ids)) {
+            current.put(complaint.getId(), complaint);
+        }
+        // The batch below writes through JDBC; keep Hibernate from flushing these copies too
+        entityManager.clear();
+
+        List<Complaint> targets = new ArrayList<>(current.values());
+        LocalDateTime now = LocalDateTime.now();
+        int[] counts = execute(request, targets, now);
+
+        Map<Long, String> outcomes = new HashMap<>();
+        int succeeded = 0;
+        for (int i = 0; i < targets.size(); i++) {
+            Complaint complaint = targets.get(i);
+            if (counts[i] != 1) {
+                outcomes.put(complaint.getId(), counts[i] == 0 ? "CONFLICT" : "ERROR");
+                continue;
+            }
+            outcomes.put(complaint.getId(), "OK");
+            succeeded++;
+            publish(request, complaint, now);
+        }
+
+        List<Map<String, Object>> results = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("id", id);
+            result.put("result", outcomes.getOrDefault(id, "NOT_FOUND"));
+            results.add(result);
+        }
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("action", request.getAction());
+        response.put("requested", ids.size());
+        response.put("succeeded", succeeded);
+        response.put("results", results);
+        return response;
+    }
+
+    private void validate(ComplaintBulkRequest request) {
+        if (request.getIds() == null || request.getIds().isEmpty()) {
+            throw new IllegalArgumentException("ids must not be empty");
+        }
+        if (request.getIds().size() > maxIds) {
+            throw new IllegalArgumentException("At most " + maxIds + " ids per request");
+        }
+        if (request.getAction() == null) {
+            throw new IllegalArgumentException("action is required");
+        }
+        switch (request.getAction()) {
+            case SET_STATUS:
+                if (request.getStatus() == null) {
+                    throw new IllegalArgumentException("status is required for SET_STATUS");
+                }
+                break;
+            case ASSIGN:
+                if (request.getAdminId() == null) {
+                    throw new IllegalArgumentException("adminId is required for ASSIGN");
+                }
+                break;
+            case SET_PRIORITY:
+                if (request.getPriority() == null) {
+                    throw new IllegalArgumentException("priority is required for SET_PRIORITY");
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    private int[] execute(ComplaintBulkRequest request, List<Complaint> targets, LocalDateTime now) {
+        if (targets.isEmpty()) {
+            return new int[0];
+        }
+        String sql = sql(request.getAction());
+        List<Object[]> args = arguments(request, targets, now);
+
+        // Only JDBC has written since the entity manager was cleared, so a JDBC savepoint covers it all
+        return jdbcTemplate.execute((ConnectionCallback<int[]>) connection -> {
+            Savepoint savepoint = connection.setSavepoint();
+            int[] counts = jdbcTemplate.batchUpdate(sql, args);
+            if (Arrays.stream(counts).noneMatch(count -> count == Statement.SUCCESS_NO_INFO)) {
+                return counts;
+            }
+            // The driver ran the batch without saying which rows matched; redo it one statement at a time
+            connection.rollback(savepoint);
+            int[] exact = new int[args.size()];
+            for (int i = 0; i < args.size(); i++) {
+                exact[i] = jdbcTemplate.update(sql, args.get(i));
+            }
+            return exact;
+        });
+    }
+
+    private static String sql(ComplaintBulkRequest.Action action) {
+        switch (action) {
+            case SET_STATUS:
+                return UPDATE_STATUS_SQL;
+            case ASSIGN:
+                return UPDATE_ASSIGNEE_SQL;
+            case SET_PRIORITY:
+                return UPDATE_PRIORITY_SQL;
+            default:
+                return DELETE_SQL;
+        }
+    }
+
+    private static List<Object[]> arguments(ComplaintBulkRequest request, List<Complaint> targets, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        List<Object[]> args = new ArrayList<>(targets.size());
+        switch (request.getAction()) {
+            case SET_STATUS:
+                for (Complaint complaint : targets) {
+                    LocalDateTime resolvedAt = resolving(request, complaint) ? now : complaint.getResolvedAt();
+                    args.add(new Object[] {request.getStatus().name(), request.getAdminResponse(),
+                            resolvedAt == null ? null : Timestamp.valueOf(resolvedAt), timestamp,
+                            complaint.getId(), complaint.getVersion()});
+                }
+                break;
+            case ASSIGN:
+                for (Complaint complaint : targets) {
+                    args.add(new Object[] {request.getAdminId(), timestamp, complaint.getId(), complaint.getVersion()});
+                }
+                break;
+            case SET_PRIORITY:
+                for (Complaint complaint : targets) {
+                    args.add(new Object[] {request.getPriority().name(), timestamp, complaint.getId(), complaint.getVersion()});
+                }
+                break;
+            default:
+                for (Complaint complaint : targets) {
+                    args.add(new Object[] {complaint.getId(), complaint.getVersion()});
+                }
+        }
+        return args;
+    }
+
+    private void publish(ComplaintBulkRequest request, Complaint complaint, LocalDateTime now) {
+        if (request.getAction() == ComplaintBulkRequest.Action.DELETE) {
+            eventPublisher.publishEvent(ComplaintEvent.deleted(complaint));
+            return;
+        }
+
+        Complaint.Status oldStatus = complaint.getStatus();
+        Complaint.Category oldCategory = complaint.getCategory();
+        Complaint.Priority oldPriority = complaint.getPriority();
+        switch (request.getAction()) {
+            case SET_STATUS:
+                if (resolving(request, complaint)) {
+                    complaint.setResolvedAt(now);
+                }
+                complaint.setStatus(request.getStatus());
+                if (request.getAdminResponse() != null) {
+                    complaint.setAdminResponse(request.getAdminResponse());
+                }
+                break;
+            case ASSIGN:
+                complaint.setAssignedToAdminId(request.getAdminId());
+                break;
+            default:
+                complaint.setPriority(request.getPriority());
+        }
+        complaint.setUpdatedAt(now);
+        complaint.setVersion(complaint.getVersion() + 1);
+        eventPublisher.publishEvent(ComplaintEvent.updated(complaint, oldStatus, oldCategory, oldPriority));
+    }
+
+    private static boolean resolving(ComplaintBulkRequest request, Complaint complaint) {
+        return request.getStatus() == Complaint.Status.RESOLVED && complaint.getStatus() != Complaint.Status.RESOLVED;
+    }
+}
@@ -0,0 +1,8 @@
+package com.hostel.complaint.service;
+
+public class ComplaintConflictException extends RuntimeException {
+
+    public ComplaintConflictException(String message) {
+        super(message);
+    }
+}
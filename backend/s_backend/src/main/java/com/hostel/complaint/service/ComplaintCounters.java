@@ -0,0 +1,125 @@
+package com.hostel.complaint.service;
+
+import com.hostel.complaint.entity.Complaint;
+import com.hostel.complaint.event.ComplaintEvent;
+import com.hostel.complaint.repository.ComplaintRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * In-memory status x category x priority complaint counts.
+ *
+ * Seeded from a single GROUP BY at startup and then kept current from
+ * {@link ComplaintEvent}s. Deltas are applied after the surrounding
+ * transaction commits so a rolled back write never skews the counts.
+ */
+@Component
+public class ComplaintCounters {
+
+    private static final Complaint.Status[] STATUSES = Complaint.Status.values();
+    private static final Complaint.Category[] CATEGORIES = Complaint.Category.values();
+    private static final Complaint.Priority[] PRIORITIES = Complaint.Priority.values();
+
+    private final AtomicLongArray cells = new AtomicLongArray(STATUSES.length * CATEGORIES.length * PRIORITIES.length);
+
+    @Autowired
+    private ComplaintRepository complaintRepository;
+
+    @PostConstruct
+    public void rebuild() {
+        for (int i = 0; i < cells.length(); i++) {
+            cells.set(i, 0);
+        }
+        for (Object[] row : complaintRepository.countByStatusCategoryPriority()) {
+            cells.addAndGet(index((Complaint.Status) row[0], (Complaint.Category) row[1],
+                    (Complaint.Priority) row[2]), (Long) row[3]);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onComplaintEvent(ComplaintEvent event) {
+        Complaint complaint = event.getComplaint();
+        int current = index(complaint.getStatus(), complaint.getCategory(), complaint.getPriority());
+        switch (event.getType()) {
+            case CREATED:
+                cells.incrementAndGet(current);
+                break;
+            case DELETED:
+                cells.decrementAndGet(current);
+                break;
+            case UPDATED:
+                int previous = index(event.getPreviousStatus(), event.getPreviousCategory(), event.getPreviousPriority());
+                if (previous != current) {
+                    cells.decrementAndGet(previous);
+                    cells.incrementAndGet(current);
+                }
+                break;
+        }
+    }
+
+    public long total() {
+        long sum = 0;
+        for (int i = 0; i < cells.length(); i++) {
+            sum += cells.get(i);
+        }
+        return sum;
+    }
+
+    public long countByStatus(Complaint.Status status) {
+        long sum = 0;
+        for (Complaint.Category category : CATEGORIES) {
+            for (Complaint.Priority priority : PRIORITIES) {
+                sum += cells.get(index(status, category, priority));
+            }
+        }
+        return sum;
+    }
+
+    public Map<String, Object> snapshot() {
+        Map<Complaint.Status, Long> byStatus = new EnumMap<>(Complaint.Status.class);
+        Map<Complaint.Category, Long> byCategory = new EnumMap<>(Complaint.Category.class);
+        Map<Complaint.Priority, Long> byPriority = new EnumMap<>(Complaint.Priority.class);
+        Map<Complaint.Status, Map<Complaint.Category, Map<Complaint.Priority, Long>>> matrix =
+                new EnumMap<>(Complaint.Status.class);
+        long total = 0;
+
+        for (Complaint.Status status : STATUSES) {
+            Map<Complaint.Category, Map<Complaint.Priority, Long>> categories = new EnumMap<>(Complaint.Category.class);
+            for (Complaint.Category category : CATEGORIES) {
+                Map<Complaint.Priority, Long> priorities = new EnumMap<>(Complaint.Priority.class);
+                for (Complaint.Priority priority : PRIORITIES) {
+                    long count = cells.get(index(status, category, priority));
+                    priorities.put(priority, count);
+                    byStatus.merge(status, count, Long::sum);
+                    byCategory.merge(category, count, Long::sum);
+                    byPriority.merge(priority, count, Long::sum);
+                    total += count;
+                }
+                categories.put(category, priorities);
+            }
+            matrix.put(status, categories);
+        }
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("total", total);
+        stats.put("pending", byStatus.get(Complaint.Status.PENDING));
+        stats.put("resolved", byStatus.get(Complaint.Status.RESOLVED));
+        stats.put("byStatus", byStatus);
+        stats.put("byCategory", byCategory);
+        stats.put("byPriority", byPriority);
+        stats.put("matrix", matrix);
+        return stats;
+    }
+
+    private static int index(Complaint.Status status, Complaint.Category category, Complaint.Priority priority) {
+        return (status.ordinal() * CATEGORIES.length + category.ordinal()) * PRIORITIES.length + priority.ordinal();
+    }
+
+}
@@ -0,0 +1,48 @@
+package com.hostel.complaint.service;
+
+import com.hostel.complaint.dto.ComplaintSummary;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Encodes the (createdAt, id) keyset of the last row on a page into an opaque
+ * URL-safe token, and turns such a token back into a scroll position.
+ */
+final class ComplaintCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private ComplaintCursor() {
+    }
+
+    static String encode(ComplaintSummary last) {
+        String raw = last.getCreatedAt() + SEPARATOR + last.getId();
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static KeysetScrollPosition decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int split = raw.lastIndexOf(SEPARATOR);
+            if (split < 0) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            Map<String, Object> keys = new LinkedHashMap<>();
+            keys.put("createdAt", LocalDateTime.parse(raw.substring(0, split)));
+            keys.put("id", Long.parseLong(raw.substring(split + 1)));
+            return ScrollPosition.forward(keys);
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.hostel.complaint.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hostel.complaint.entity.Complaint;
+import com.hostel.complaint.repository.ComplaintRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Writes complaints straight from a JDBC cursor to the response as CSV or
+ * NDJSON. Rows are detached as soon as they are written so neither the
+ * persistence context nor the output buffer grows with the export size.
+ */
+@Service
+public class ComplaintExportService {
+
+    public enum Format {
+        CSV,
+        NDJSON
+    }
+
+    private static final String CSV_HEADER =
+            "id,title,description,category,priority,status,studentId,studentName,roomNumber," +
+            "assignedToAdminId,adminResponse,createdAt,updatedAt,resolvedAt";
+
+    @Autowired
+    private ComplaintRepository complaintRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Transactional(readOnly = true)
+    public void export(Format format, Complaint.Status status, Complaint.Category category,
+                       Long studentId, Long adminId, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+        if (format == Format.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        try (Stream<Complaint> complaints = complaintRepository.streamForExport(status, category, studentId, adminId)) {
+            Iterator<Complaint> iterator = complaints.iterator();
+            while (iterator.hasNext()) {
+                Complaint complaint = iterator.next();
+                if (format == Format.CSV) {
+                    writeCsvRow(writer, complaint);
+                } else {
+                    writer.write(objectMapper.writeValueAsString(complaint));
+                    writer.write('\n');
+                }
+                entityManager.detach(complaint);
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+    }
+
+    private static void writeCsvRow(Writer writer, Complaint complaint) throws IOException {
+        Object[] values = {
+                complaint.getId(), complaint.getTitle(), complaint.getDescription(), complaint.getCategory(),
+                complaint.getPriority(), complaint.getStatus(), complaint.getStudentId(), complaint.getStudentName(),
+                complaint.getRoomNumber(), complaint.getAssignedToAdminId(), complaint.getAdminResponse(),
+                complaint.getCreatedAt(), complaint.getUpdatedAt(), complaint.getResolvedAt()
+        };
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            if (values[i] != null) {
+                writer.write(csvEscape(values[i].toString()));
+            }
+        }
+        writer.write('\n');
+    }
+
+    private static String csvEscape(String value) {
+        if (startsLikeFormula(value)) {
+            // A student-supplied "=HYPERLINK(...)" must open in Excel or Sheets as text, not run as a formula
+            return "\"'" + value.replace("\"", "\"\"") + '"';
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private static boolean startsLikeFormula(String value) {
+        if (value.isEmpty()) {
+            return false;
+        }
+        char first = value.charAt(0);
+        return first == '=' || first == '+' || first == '-' || first == '@' || first == '\t' || first == '\r';
+    }
+}
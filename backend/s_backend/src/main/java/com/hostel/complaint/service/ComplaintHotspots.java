@@ -0,0 +1,149 @@
+package com.hostel.complaint.service;
+
+import com.hostel.complaint.analytics.SlidingTopK;
+import com.hostel.complaint.entity.Complaint;
+import com.hostel.complaint.event.ComplaintEvent;
+import com.hostel.complaint.repository.ComplaintRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Rooms and room x category pairs with the most complaints over the last
+ * 24 hours, 7 days and 30 days.
+ *
+ * Each window is a {@link SlidingTopK}, so memory stays fixed at
+ * {@code analytics.hotspots.capacity} keys per time slice however many rooms
+ * report problems; counts are estimates with a reported error bound. Seeded
+ * from the last 30 days of complaints at startup and then fed by CREATED
+ * {@link ComplaintEvent}s after commit. Windows slide in whole slices
+ * (1 hour, 6 hours and 1 day respectively).
+ */
+@Component
+public class ComplaintHotspots {
+
+    private static final char PAIR_SEPARATOR = '\t';
+
+    @Autowired
+    private ComplaintRepository complaintRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${analytics.hotspots.capacity:50}")
+    private int capacity;
+
+    private final Map<String, Window> windows = new LinkedHashMap<>();
+
+    @PostConstruct
+    public void rebuild() {
+        windows.clear();
+        windows.put("24h", new Window(Duration.ofHours(24), 24, capacity));
+        windows.put("7d", new Window(Duration.ofDays(7), 28, capacity));
+        windows.put("30d", new Window(Duration.ofDays(30), 30, capacity));
+
+        long now = System.currentTimeMillis();
+        TransactionTemplate readOnly = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        readOnly.setReadOnly(true);
+        readOnly.executeWithoutResult(status -> {
+            try (Stream<Object[]> rows = complaintRepository.streamRoomActivitySince(LocalDateTime.now().minusDays(30))) {
+                rows.forEach(row -> record((String) row[0], (Complaint.Category) row[1], (LocalDateTime) row[2], now));
+            }
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onComplaintEvent(ComplaintEvent event) {
+        if (event.getType() == ComplaintEvent.Type.CREATED) {
+            Complaint complaint = event.getComplaint();
+            record(complaint.getRoomNumber(), complaint.getCategory(), complaint.getCreatedAt(), System.currentTimeMillis());
+        }
+    }
+
+    private void record(String roomNumber, Complaint.Category category, LocalDateTime createdAt, long now) {
+        String room = normalize(roomNumber);
+        if (room == null) {
+            return;
+        }
+        long at = createdAt != null ? createdAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : now;
+        for (Window window : windows.values()) {
+            window.rooms.add(room, at, now);
+            window.roomCategories.add(room + PAIR_SEPARATOR + category, at, now);
+        }
+    }
+
+    /** All windows, or only {@code window} ("24h", "7d" or "30d") when given. */
+    public Map<String, Object> hotspots(String window, int limit) {
+        if (window != null && !windows.containsKey(window)) {
+            throw new IllegalArgumentException("Unknown window '" + window + "'; expected one of " + windows.keySet());
+        }
+        int size = Math.max(1, Math.min(limit, capacity));
+        long now = System.currentTimeMillis();
+
+        Map<String, Object> byWindow = new LinkedHashMap<>();
+        windows.forEach((name, tracked) -> {
+            if (window != null && !window.equals(name)) {
+                return;
+            }
+            List<Map<String, Object>> rooms = new ArrayList<>();
+            for (SlidingTopK.HeavyHitter hitter : tracked.rooms.top(size, now)) {
+                Map<String, Object> row = new LinkedHashMap<>();
+                row.put("room", hitter.key());
+                row.put("count", hitter.count());
+                row.put("maxError", hitter.maxError());
+                rooms.add(row);
+            }
+            List<Map<String, Object>> pairs = new ArrayList<>();
+            for (SlidingTopK.HeavyHitter hitter : tracked.roomCategories.top(size, now)) {
+                int split = hitter.key().lastIndexOf(PAIR_SEPARATOR);
+                Map<String, Object> row = new LinkedHashMap<>();
+                row.put("room", hitter.key().substring(0, split));
+                row.put("category", hitter.key().substring(split + 1));
+                row.put("count", hitter.count());
+                row.put("maxError", hitter.maxError());
+                pairs.add(row);
+            }
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("complaints", tracked.rooms.total(now));
+            result.put("rooms", rooms);
+            result.put("roomCategories", pairs);
+            byWindow.put(name, result);
+        });
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("limit", size);
+        response.put("windows", byWindow);
+        return response;
+    }
+
+    // Room numbers are free text; "a-101 " and "A-101" are the same room
+    private static String normalize(String roomNumber) {
+        if (roomNumber == null) {
+            return null;
+        }
+        String room = roomNumber.trim().replace(PAIR_SEPARATOR, ' ').toUpperCase(Locale.ROOT);
+        return room.isEmpty() ? null : room;
+    }
+
+    private static final class Window {
+        private final SlidingTopK rooms;
+        private final SlidingTopK roomCategories;
+
+        private Window(Duration length, int slots, int capacity) {
+            this.rooms = new SlidingTopK(length, slots, capacity);
+            this.roomCategories = new SlidingTopK(length, slots, capacity);
+        }
+    }
+}
@@ -0,0 +1,352 @@
+package com.hostel.complaint.service;
+
+import com.hostel.complaint.entity.Complaint;
+import com.hostel.complaint.event.ComplaintEvent;
+import com.hostel.complaint.metrics.StatementCounter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Batched write path for complaint creation, enabled with
+ * {@code complaints.ingestion.batched=true}.
+ *
+ * Requests are validated and queued; a single writer thread drains the queue and inserts up to
+ * {@code batch-size} complaints per transaction as one JDBC batch, flushing
+ * early once the oldest queued complaint has waited {@code max-delay-ms}.
+ * The returned future completes only after the batch commits (flush before
+ * ack), so an acknowledged complaint is as durable as one written directly.
+ * A failed batch is retried row by row so one bad complaint does not fail
+ * its neighbours.
+ *
+ * Ids come from the table's identity column, read back as generated keys
+ * of the batch, so batched inserts never collide with complaints created
+ * through JPA or by another instance.
+ */
+@Service
+public class ComplaintIngestionService {
+
+    private static final Logger log = LoggerFactory.getLogger(ComplaintIngestionService.class);
+
+    private static final String INSERT_SQL =
+            "INSERT INTO complaints (title, description, category, priority, status, student_id, student_name, " +
+            "room_number, assigned_to_admin_id, admin_response, created_at, updated_at, resolved_at, version) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String[] GENERATED_KEYS = {"id"};
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${complaints.ingestion.batched:false}")
+    private boolean enabled;
+
+    @Value("${complaints.ingestion.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${complaints.ingestion.batch-size:200}")
+    private int batchSize;
+
+    @Value("${complaints.ingestion.max-delay-ms:20}")
+    private long maxDelayMs;
+
+    private BlockingQueue<Pending> queue;
+    private volatile boolean running;
+    // Submitters offer under the read lock and stop() closes intake under the write lock, so no offer
+    // can land after the writer's final drain
+    private final ReentrantReadWriteLock admission = new ReentrantReadWriteLock();
+    private Thread writer;
+
+    private Timer flushTimer;
+    private DistributionSummary batchSizes;
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+
+        flushTimer = meterRegistry.timer("complaints.ingestion.flush");
+        batchSizes = DistributionSummary.builder("complaints.ingestion.batch.size").register(meterRegistry);
+        Gauge.builder("complaints.ingestion.queued", queue, BlockingQueue::size).register(meterRegistry);
+
+        running = true;
+        writer = new Thread(this::writeLoop, "complaint-ingestion-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (!enabled) {
+            return;
+        }
+        // The writer drains whatever is still queued before it exits
+        closeIntake();
+        writer.join(TimeUnit.SECONDS.toMillis(30));
+
+        // Only what the writer did not reach before the join timed out is left; fail it rather than leave it hanging
+        Pending leftover;
+        while ((leftover = queue.poll()) != null) {
+            leftover.result.completeExceptionally(new IngestionRejectedException("Server is shutting down, please retry"));
+        }
+    }
+
+    private void closeIntake() {
+        admission.writeLock().lock();
+        try {
+            running = false;
+        } finally {
+            admission.writeLock().unlock();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Queues a complaint for the next batch. The future completes with the
+     * stored complaint once its batch has committed, or exceptionally with
+     * {@link IngestionRejectedException} when the queue is full.
+     */
+    public CompletableFuture<Complaint> submit(Complaint complaint) {
+        validate(complaint);
+
+        LocalDateTime now = LocalDateTime.now();
+        complaint.setId(null);
+        complaint.setStatus(Complaint.Status.PENDING);
+        complaint.setCreatedAt(now);
+        complaint.setUpdatedAt(now);
+        complaint.setResolvedAt(null);
+        complaint.setVersion(0L);
+
+        Pending pending = new Pending(complaint);
+        boolean queued;
+        admission.readLock().lock();
+        try {
+            queued = running && queue.offer(pending);
+        } finally {
+            admission.readLock().unlock();
+        }
+        if (!queued) {
+            pending.result.completeExceptionally(running
+                    ? new IngestionRejectedException("Complaint intake is saturated, please retry")
+                    : new IngestionRejectedException("Server is shutting down, please retry"));
+        }
+        return pending.result;
+    }
+
+    private void validate(Complaint complaint) {
+        if (complaint.getTitle() == null || complaint.getTitle().isBlank()) {
+            throw new IllegalArgumentException("title is required");
+        }
+        if (complaint.getDescription() == null || complaint.getDescription().isBlank()) {
+            throw new IllegalArgumentException("description is required");
+        }
+        if (complaint.getCategory() == null) {
+            throw new IllegalArgumentException("category is required");
+        }
+        if (complaint.getPriority() == null) {
+            throw new IllegalArgumentException("priority is required");
+        }
+        if (complaint.getStudentId() == null) {
+            throw new IllegalArgumentException("studentId is required");
+        }
+    }
+
+    private void writeLoop() {
+        List<Pending> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                Pending first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxDelayMs);
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remaining <= 0) {
+                        break;
+                    }
+                    Pending next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                closeIntake();
+            } catch (RuntimeException e) {
+                log.error("Complaint ingestion writer failed", e);
+                batch.forEach(pending -> pending.result.completeExceptionally(e));
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<Pending> batch) {
+        batchSizes.record(batch.size());
+        // Every request in the batch waited on the batch's statements, so each is charged for them
+        StatementCounter.Count statements = StatementCounter.start();
+        try {
+            write(batch);
+        } finally {
+            StatementCounter.stop();
+            for (Pending pending : batch) {
+                if (pending.statements != null) {
+                    pending.statements.add(statements.get());
+                }
+            }
+        }
+        batch.forEach(Pending::finish);
+    }
+
+    private void write(List<Pending> batch) {
+        try {
+            flushTimer.record(() -> transactionTemplate.executeWithoutResult(status -> {
+                insertBatch(batch);
+                // Delivered to the after-commit listeners once this transaction commits
+                batch.forEach(pending -> eventPublisher.publishEvent(ComplaintEvent.created(pending.complaint)));
+            }));
+            batch.forEach(pending -> pending.outcome = pending.complaint);
+        } catch (RuntimeException batchFailure) {
+            log.warn("Batch insert of {} complaints failed, retrying individually: {}",
+                    batch.size(), batchFailure.getMessage());
+            for (Pending pending : batch) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> {
+                        insertOne(pending.complaint);
+                        eventPublisher.publishEvent(ComplaintEvent.created(pending.complaint));
+                    });
+                    pending.outcome = pending.complaint;
+                } catch (RuntimeException e) {
+                    pending.failure = e;
+                }
+            }
+        }
+    }
+
+    // One JDBC batch; the driver returns one generated id per row, in batch order
+    private void insertBatch(List<Pending> batch) {
+        List<Long> ids = jdbcTemplate.execute((ConnectionCallback<List<Long>>) connection -> {
+            try (PreparedStatement ps = connection.prepareStatement(INSERT_SQL, GENERATED_KEYS)) {
+                for (Pending pending : batch) {
+                    bind(ps, pending.complaint);
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+                List<Long> keys = new ArrayList<>(batch.size());
+                try (ResultSet generated = ps.getGeneratedKeys()) {
+                    while (generated.next()) {
+                        keys.add(generated.getLong(1));
+                    }
+                }
+                return keys;
+            }
+        });
+        if (ids == null || ids.size() != batch.size()) {
+            // Rolls the batch back; the row-by-row retry reads each id on its own
+            throw new IllegalStateException("Expected " + batch.size() + " generated ids, got "
+                    + (ids == null ? 0 : ids.size()));
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            batch.get(i).complaint.setId(ids.get(i));
+        }
+    }
+
+    private void insertOne(Complaint complaint) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(INSERT_SQL, GENERATED_KEYS);
+            bind(ps, complaint);
+            return ps;
+        }, keyHolder);
+        complaint.setId(keyHolder.getKeyAs(Long.class));
+    }
+
+    private static void bind(PreparedStatement ps, Complaint complaint) throws SQLException {
+        ps.setString(1, complaint.getTitle());
+        ps.setString(2, complaint.getDescription());
+        ps.setString(3, complaint.getCategory().name());
+        ps.setString(4, complaint.getPriority().name());
+        ps.setString(5, complaint.getStatus().name());
+        ps.setLong(6, complaint.getStudentId());
+        ps.setString(7, complaint.getStudentName());
+        ps.setString(8, complaint.getRoomNumber());
+        if (complaint.getAssignedToAdminId() != null) {
+            ps.setLong(9, complaint.getAssignedToAdminId());
+        } else {
+            ps.setNull(9, Types.BIGINT);
+        }
+        ps.setString(10, complaint.getAdminResponse());
+        ps.setTimestamp(11, Timestamp.valueOf(complaint.getCreatedAt()));
+        ps.setTimestamp(12, Timestamp.valueOf(complaint.getUpdatedAt()));
+        ps.setNull(13, Types.TIMESTAMP);
+        ps.setLong(14, complaint.getVersion());
+    }
+
+    private static final class Pending {
+        private final Complaint complaint;
+        private final CompletableFuture<Complaint> result = new CompletableFuture<>();
+        // The submitting request's statement count, charged before the future completes
+        private final StatementCounter.Count statements = StatementCounter.current();
+        private Complaint outcome;
+        private RuntimeException failure;
+
+        private Pending(Complaint complaint) {
+            this.complaint = complaint;
+        }
+
+        void finish() {
+            if (outcome != null) {
+                result.complete(outcome);
+            } else {
+                result.completeExceptionally(failure != null ? failure
+                        : new IllegalStateException("Complaint batch finished without a result"));
+            }
+        }
+    }
+}
@@ -1,103 +1,204 @@
 package com.hostel.complaint.service;
 
+import com.hostel.complaint.dto.ChangeProbe;
+import com.hostel.complaint.dto.ComplaintSummary;
+import com.hostel.complaint.dto.CursorPage;
 import com.hostel.complaint.entity.Complaint;
+import com.hostel.complaint.event.ComplaintEvent;
 import com.hostel.complaint.repository.ComplaintRepository;
+import com.hostel.complaint.search.ComplaintSearchIndex;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
 public class ComplaintService {
 
+    // A String so controllers can use it as the @RequestParam default
+    public static final String DEFAULT_PAGE_SIZE = "50";
+    public static final int MAX_PAGE_SIZE = 200;
+
     @Autowired
     private ComplaintRepository complaintRepository;
 
+    @Autowired
+    private ComplaintCounters complaintCounters;
+
+    @Autowired
+    private ComplaintSearchIndex searchIndex;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Transactional
     public Complaint createComplaint(Complaint complaint) {
         complaint.setStatus(Complaint.Status.PENDING);
-        return complaintRepository.save(complaint);
+        Complaint saved = complaintRepository.save(complaint);
+        eventPublisher.publishEvent(ComplaintEvent.created(saved));
+        return saved;
     }
 
     public Optional<Complaint> findById(Long id) {
         return complaintRepository.findById(id);
     }
 
-    public List<Complaint> getAllComplaints() {
-        return complaintRepository.findAllByOrderByCreatedAtDesc();
+    public ChangeProbe probeComplaints(Complaint.Status status, Complaint.Category category, Long studentId, Long adminId) {
+        return complaintRepository.probe(status, category, studentId, adminId);
+    }
+
+    public Optional<LocalDateTime> findUpdatedAt(Long id) {
+        return complaintRepository.findUpdatedAtById(id);
     }
 
-    public List<Complaint> getComplaintsByStudentId(Long studentId) {
-        return complaintRepository.findByStudentIdOrderByCreatedAtDesc(studentId);
+    public CursorPage<ComplaintSummary> getAllComplaints(String cursor, int size) {
+        return toPage(complaintRepository.findAllByOrderByCreatedAtDescIdDesc(
+                ComplaintCursor.decode(cursor), limit(size), ComplaintSummary.class));
     }
 
-    public List<Complaint> getComplaintsByStatus(Complaint.Status status) {
-        return complaintRepository.findByStatus(status);
+    public CursorPage<ComplaintSummary> getComplaintsByStudentId(Long studentId, String cursor, int size) {
+        return toPage(complaintRepository.findByStudentIdOrderByCreatedAtDescIdDesc(
+                studentId, ComplaintCursor.decode(cursor), limit(size), ComplaintSummary.class));
     }
 
-    public List<Complaint> getComplaintsByCategory(Complaint.Category category) {
-        return complaintRepository.findByCategory(category);
+    public CursorPage<ComplaintSummary> getComplaintsByStatus(Complaint.Status status, String cursor, int size) {
+        return toPage(complaintRepository.findByStatusOrderByCreatedAtDescIdDesc(
+                status, ComplaintCursor.decode(cursor), limit(size), ComplaintSummary.class));
     }
 
-    public List<Complaint> getComplaintsByAdminId(Long adminId) {
-        return complaintRepository.findByAssignedToAdminId(adminId);
+    public CursorPage<ComplaintSummary> getComplaintsByCategory(Complaint.Category category, String cursor, int size) {
+        return toPage(complaintRepository.findByCategoryOrderByCreatedAtDescIdDesc(
+                category, ComplaintCursor.decode(cursor), limit(size), ComplaintSummary.class));
+    }
+
+    public CursorPage<ComplaintSummary> getComplaintsByAdminId(Long adminId, String cursor, int size) {
+        return toPage(complaintRepository.findByAssignedToAdminIdOrderByCreatedAtDescIdDesc(
+                adminId, ComplaintCursor.decode(cursor), limit(size), ComplaintSummary.class));
+    }
+
+    public Map<String, Object> searchComplaints(String query, int page, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        ComplaintSearchIndex.SearchResult result = searchIndex.search(query, Math.max(0, page), pageSize);
+
+        Map<Long, ComplaintSummary> byId = new HashMap<>();
+        for (ComplaintSummary complaint : complaintRepository.findByIdIn(result.getIds(), ComplaintSummary.class)) {
+            byId.put(complaint.getId(), complaint);
+        }
+        List<ComplaintSummary> items = new ArrayList<>(result.getIds().size());
+        for (Long id : result.getIds()) {
+            ComplaintSummary complaint = byId.get(id);
+            if (complaint != null) {
+                items.add(complaint);
+            }
+        }
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("items", items);
+        response.put("total", result.getTotalHits());
+        response.put("totalExact", result.isTotalHitsExact());
+        response.put("page", Math.max(0, page));
+        response.put("size", pageSize);
+        return response;
     }
 
+    @Transactional
     public Complaint updateComplaint(Long id, Complaint complaintDetails) {
-        Complaint complaint = complaintRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Complaint not found"));
+        return applyUpdate(id, complaintDetails.getVersion(), complaintDetails);
+    }
+
+    @Transactional
+    public Complaint updateComplaintStatus(Long id, Complaint.Status status, String adminResponse, Long expectedVersion) {
+        Complaint changes = new Complaint();
+        changes.setStatus(status);
+        changes.setAdminResponse(adminResponse);
+        return applyUpdate(id, expectedVersion, changes);
+    }
 
-        if (complaintDetails.getTitle() != null) {
-            complaint.setTitle(complaintDetails.getTitle());
+    // One targeted UPDATE guarded by the version; without an expectedVersion, by the version read first
+    private Complaint applyUpdate(Long id, Long expectedVersion, Complaint changes) {
+        LocalDateTime now = LocalDateTime.now();
+        Complaint complaint = complaintRepository.updateChangedFields(id, expectedVersion, changes, now)
+                .orElseThrow(() -> complaintRepository.existsById(id)
+                        ? new ComplaintConflictException("Complaint was modified by someone else; reload and try again")
+                        : new RuntimeException("Complaint not found"));
+
+        // complaint is the pre-image; turn it into what the UPDATE wrote
+        Complaint.Status oldStatus = complaint.getStatus();
+        Complaint.Category oldCategory = complaint.getCategory();
+        Complaint.Priority oldPriority = complaint.getPriority();
+        if (changes.getTitle() != null) {
+            complaint.setTitle(changes.getTitle());
         }
-        if (complaintDetails.getDescription() != null) {
-            complaint.setDescription(complaintDetails.getDescription());
+        if (changes.getDescription() != null) {
+            complaint.setDescription(changes.getDescription());
         }
-        if (complaintDetails.getCategory() != null) {
-            complaint.setCategory(complaintDetails.getCategory());
+        if (changes.getCategory() != null) {
+            complaint.setCategory(changes.getCategory());
         }
-        if (complaintDetails.getPriority() != null) {
-            complaint.setPriority(complaintDetails.getPriority());
+        if (changes.getPriority() != null) {
+            complaint.setPriority(changes.getPriority());
         }
-        if (complaintDetails.getStatus() != null) {
-            complaint.setStatus(complaintDetails.getStatus());
+        if (changes.getStatus() != null) {
+            complaint.setStatus(changes.getStatus());
         }
-        if (complaintDetails.getAssignedToAdminId() != null) {
-            complaint.setAssignedToAdminId(complaintDetails.getAssignedToAdminId());
+        if (changes.getAssignedToAdminId() != null) {
+            complaint.setAssignedToAdminId(changes.getAssignedToAdminId());
         }
-        if (complaintDetails.getAdminResponse() != null) {
-            complaint.setAdminResponse(complaintDetails.getAdminResponse());
+        if (changes.getAdminResponse() != null) {
+            complaint.setAdminResponse(changes.getAdminResponse());
         }
-
-        return complaintRepository.save(complaint);
-    }
-
-    public Complaint updateComplaintStatus(Long id, Complaint.Status status, String adminResponse) {
-        Complaint complaint = complaintRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Complaint not found"));
-
-        complaint.setStatus(status);
-        if (adminResponse != null) {
-            complaint.setAdminResponse(adminResponse);
+        if (changes.getStatus() == Complaint.Status.RESOLVED && oldStatus != Complaint.Status.RESOLVED) {
+            complaint.setResolvedAt(now);
         }
+        complaint.setUpdatedAt(now);
+        complaint.setVersion(complaint.getVersion() + 1);
 
-        return complaintRepository.save(complaint);
+        eventPublisher.publishEvent(ComplaintEvent.updated(complaint, oldStatus, oldCategory, oldPriority));
+        return complaint;
     }
 
+    @Transactional
     public void deleteComplaint(Long id) {
         Complaint complaint = complaintRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Complaint not found"));
         complaintRepository.delete(complaint);
+        eventPublisher.publishEvent(ComplaintEvent.deleted(complaint));
     }
 
     public long getTotalComplaints() {
-        return complaintRepository.count();
+        return complaintCounters.total();
     }
 
     public long getPendingComplaints() {
-        return complaintRepository.findByStatus(Complaint.Status.PENDING).size();
+        return complaintCounters.countByStatus(Complaint.Status.PENDING);
     }
 
     public long getResolvedComplaints() {
-        return complaintRepository.findByStatus(Complaint.Status.RESOLVED).size();
+        return complaintCounters.countByStatus(Complaint.Status.RESOLVED);
+    }
+
+    public Map<String, Object> getComplaintStats() {
+        return complaintCounters.snapshot();
+    }
+
+    private Limit limit(int size) {
+        return Limit.of(Math.max(1, Math.min(size, MAX_PAGE_SIZE)));
+    }
+
+    private CursorPage<ComplaintSummary> toPage(Window<ComplaintSummary> window) {
+        List<ComplaintSummary> items = window.getContent();
+        String nextCursor = window.hasNext() && !items.isEmpty()
+                ? ComplaintCursor.encode(items.get(items.size() - 1))
+                : null;
+        return new CursorPage<>(items, nextCursor, nextCursor != null);
     }
 }
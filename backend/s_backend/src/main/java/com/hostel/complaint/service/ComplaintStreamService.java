@@ -0,0 +1,273 @@
+package com.hostel.complaint.service;
+
+import com.hostel.complaint.entity.Complaint;
+import com.hostel.complaint.entity.User;
+import com.hostel.complaint.event.ComplaintEvent;
+import com.hostel.complaint.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Fans committed complaint changes out to Server-Sent Events subscribers.
+ *
+ * Connections are held as async requests, so an idle subscriber costs no
+ * thread. Each subscriber has a small bounded queue drained by a shared
+ * sender pool; a consumer that falls behind has its backlog replaced with a
+ * single "resync" event telling the dashboard to re-fetch.
+ *
+ * A write to a client that has stopped reading blocks once the socket buffer
+ * fills, and would hold one of the few sender threads indefinitely. Every
+ * send therefore carries a deadline ({@code complaints.stream.write-timeout-ms});
+ * a watchdog on the heartbeat thread evicts any subscriber whose send has
+ * outlived it and interrupts the stuck sender so it returns to the pool.
+ */
+@Service
+public class ComplaintStreamService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ComplaintStreamService.class);
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Value("${complaints.stream.max-subscribers:5000}")
+    private int maxSubscribers;
+
+    @Value("${complaints.stream.queue-capacity:64}")
+    private int queueCapacity;
+
+    @Value("${complaints.stream.timeout-ms:1800000}")
+    private long emitterTimeoutMs;
+
+    @Value("${complaints.stream.heartbeat-interval-ms:15000}")
+    private long heartbeatIntervalMs;
+
+    @Value("${complaints.stream.sender-threads:4}")
+    private int senderThreads;
+
+    @Value("${complaints.stream.write-timeout-ms:5000}")
+    private long writeTimeoutMs;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    private ExecutorService senders;
+
+    private ScheduledExecutorService heartbeat;
+
+    @PostConstruct
+    public void start() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        senders = Executors.newFixedThreadPool(senderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "complaint-stream-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        heartbeat = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "complaint-stream-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        heartbeat.scheduleAtFixedRate(this::sendHeartbeats, heartbeatIntervalMs, heartbeatIntervalMs, TimeUnit.MILLISECONDS);
+        long watchdogIntervalMs = Math.max(100, Math.min(writeTimeoutMs / 2, 1000));
+        heartbeat.scheduleAtFixedRate(this::evictStalledSubscribers, watchdogIntervalMs, watchdogIntervalMs,
+                TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        heartbeat.shutdownNow();
+        senders.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+    }
+
+    public SseEmitter subscribe(String email) {
+        if (subscribers.size() >= maxSubscribers) {
+            throw new IllegalStateException("Too many open complaint streams");
+        }
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new RuntimeException("User not found"));
+
+        Set<Long> visibleStudentIds;
+        switch (user.getRole()) {
+            case ADMIN:
+                visibleStudentIds = null;
+                break;
+            case PARENT:
+                visibleStudentIds = userRepository.findByParentId(user.getId()).stream()
+                        .map(User::getId)
+                        .collect(Collectors.toUnmodifiableSet());
+                break;
+            default:
+                visibleStudentIds = Set.of(user.getId());
+        }
+
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        Subscriber subscriber = new Subscriber(emitter, visibleStudentIds, queueCapacity);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> {
+            subscribers.remove(subscriber);
+            emitter.complete();
+        });
+        emitter.onError(error -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+
+        enqueue(subscriber, SseEmitter.event().name("connected").data(Map.of("role", user.getRole())));
+        return emitter;
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onComplaintEvent(ComplaintEvent event) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        Complaint complaint = event.getComplaint();
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("type", event.getType());
+        payload.put("id", complaint.getId());
+        payload.put("studentId", complaint.getStudentId());
+        payload.put("title", complaint.getTitle());
+        payload.put("status", complaint.getStatus());
+        payload.put("category", complaint.getCategory());
+        payload.put("priority", complaint.getPriority());
+        payload.put("updatedAt", complaint.getUpdatedAt());
+
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.canSee(complaint.getStudentId())) {
+                enqueue(subscriber, SseEmitter.event()
+                        .name("complaint")
+                        .id(String.valueOf(complaint.getId()))
+                        .data(payload));
+            }
+        }
+    }
+
+    private void sendHeartbeats() {
+        for (Subscriber subscriber : subscribers) {
+            enqueue(subscriber, SseEmitter.event().comment("heartbeat"));
+        }
+    }
+
+    private void evictStalledSubscribers() {
+        long deadline = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(writeTimeoutMs);
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.interruptSendStartedBefore(deadline)) {
+                logger.debug("Evicting complaint stream subscriber after a {} ms write stall", writeTimeoutMs);
+                subscribers.remove(subscriber);
+                subscriber.queue.clear();
+                subscriber.emitter.completeWithError(new IOException("Write timed out after " + writeTimeoutMs + " ms"));
+            }
+        }
+    }
+
+    private void enqueue(Subscriber subscriber, SseEmitter.SseEventBuilder event) {
+        if (subscriber.evicted) {
+            return;
+        }
+        if (!subscriber.queue.offer(event)) {
+            // Slow consumer: drop its backlog and ask it to re-fetch instead of buffering without bound
+            subscriber.queue.clear();
+            subscriber.queue.offer(SseEmitter.event().name("resync").data(Map.of("reason", "backlog")));
+        }
+        if (subscriber.draining.compareAndSet(false, true)) {
+            senders.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            SseEmitter.SseEventBuilder event;
+            while (!subscriber.evicted && (event = subscriber.queue.poll()) != null) {
+                subscriber.beginSend();
+                try {
+                    subscriber.emitter.send(event);
+                } finally {
+                    subscriber.endSend();
+                }
+            }
+        } catch (IOException | IllegalStateException e) {
+            if (!subscriber.evicted) {
+                logger.debug("Closing complaint stream: {}", e.getMessage());
+                subscribers.remove(subscriber);
+                subscriber.queue.clear();
+                subscriber.emitter.completeWithError(e);
+            }
+        } finally {
+            subscriber.draining.set(false);
+        }
+        // An event may have arrived between the last poll and releasing the flag
+        if (!subscriber.queue.isEmpty() && subscribers.contains(subscriber)
+                && subscriber.draining.compareAndSet(false, true)) {
+            senders.execute(() -> drain(subscriber));
+        }
+    }
+
+    private static final class Subscriber {
+        private final SseEmitter emitter;
+        private final Set<Long> visibleStudentIds;
+        private final ArrayBlockingQueue<SseEmitter.SseEventBuilder> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        // Guarded by this: the thread currently writing to the emitter and when it started
+        private Thread sender;
+        private long sendStartedNanos;
+        private volatile boolean evicted;
+
+        private Subscriber(SseEmitter emitter, Set<Long> visibleStudentIds, int queueCapacity) {
+            this.emitter = emitter;
+            this.visibleStudentIds = visibleStudentIds;
+            this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        }
+
+        boolean canSee(Long studentId) {
+            return visibleStudentIds == null || visibleStudentIds.contains(studentId);
+        }
+
+        synchronized void beginSend() {
+            sender = Thread.currentThread();
+            sendStartedNanos = System.nanoTime();
+        }
+
+        synchronized void endSend() {
+            sender = null;
+            // Swallow an interrupt from the watchdog that raced with the write finishing
+            Thread.interrupted();
+        }
+
+        /**
+         * Marks this subscriber evicted and interrupts its sender if a send has
+         * been in progress since before {@code deadlineNanos}. Holding the lock
+         * means the interrupt can only land while that send is still running.
+         */
+        synchronized boolean interruptSendStartedBefore(long deadlineNanos) {
+            if (sender == null || sendStartedNanos - deadlineNanos > 0 || evicted) {
+                return false;
+            }
+            evicted = true;
+            sender.interrupt();
+            return true;
+        }
+    }
+}
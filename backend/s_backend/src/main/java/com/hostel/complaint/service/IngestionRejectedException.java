@@ -0,0 +1,8 @@
+package com.hostel.complaint.service;
+
+public class IngestionRejectedException extends RuntimeException {
+
+    public IngestionRejectedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,305 @@
+package com.hostel.complaint.service;
+
+import com.hostel.complaint.analytics.QuantileSketch;
+import com.hostel.complaint.entity.Complaint;
+import com.hostel.complaint.entity.ResolutionRollup;
+import com.hostel.complaint.event.ComplaintEvent;
+import com.hostel.complaint.repository.ComplaintRepository;
+import com.hostel.complaint.repository.ResolutionRollupRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * Time-to-resolve analytics backed by per (day, category, priority) rollups.
+ *
+ * Each complaint that moves into RESOLVED adds its createdAt -> resolvedAt
+ * duration to an in-memory delta for its bucket once the transaction
+ * commits; a single flusher merges the deltas into {@code resolution_rollups}
+ * every {@code analytics.resolution.flush-interval-ms}, so the write path
+ * pays no extra statements. Queries merge the stored rows for the requested
+ * range with any deltas not yet flushed and never touch the complaints table.
+ *
+ * Rollups record resolutions as they happen: reopening or deleting a resolved
+ * complaint does not retract it, and a complaint resolved twice counts twice.
+ */
+@Service
+public class ResolutionAnalyticsService {
+
+    private static final Logger log = LoggerFactory.getLogger(ResolutionAnalyticsService.class);
+
+    private static final double[] QUANTILES = {0.5, 0.75, 0.9, 0.95, 0.99};
+
+    public enum GroupBy {
+        NONE,
+        DAY,
+        WEEK,
+        CATEGORY,
+        PRIORITY
+    }
+
+    @Autowired
+    private ResolutionRollupRepository rollupRepository;
+
+    @Autowired
+    private ComplaintRepository complaintRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${analytics.resolution.flush-interval-ms:5000}")
+    private long flushIntervalMs;
+
+    private final ConcurrentHashMap<Bucket, Delta> pending = new ConcurrentHashMap<>();
+
+    // Queries hold the read lock so a flush is never seen half in memory and half in the table
+    private final ReadWriteLock flushLock = new ReentrantReadWriteLock();
+
+    private ScheduledExecutorService flusher;
+
+    @PostConstruct
+    public void start() {
+        backfillIfEmpty();
+        flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "resolution-rollup-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(this::flushQuietly, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        flusher.shutdown();
+        flusher.awaitTermination(30, TimeUnit.SECONDS);
+        flushQuietly();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onComplaintEvent(ComplaintEvent event) {
+        Complaint complaint = event.getComplaint();
+        if (event.getType() == ComplaintEvent.Type.UPDATED
+                && event.getPreviousStatus() != Complaint.Status.RESOLVED
+                && complaint.getStatus() == Complaint.Status.RESOLVED) {
+            record(complaint.getCategory(), complaint.getPriority(), complaint.getCreatedAt(), complaint.getResolvedAt());
+        }
+    }
+
+    private void record(Complaint.Category category, Complaint.Priority priority,
+                        LocalDateTime createdAt, LocalDateTime resolvedAt) {
+        if (createdAt == null || resolvedAt == null) {
+            return;
+        }
+        long seconds = Math.max(0, Duration.between(createdAt, resolvedAt).getSeconds());
+        pending.compute(new Bucket(resolvedAt.toLocalDate(), category, priority), (bucket, delta) -> {
+            Delta target = delta != null ? delta : new Delta();
+            target.add(seconds);
+            return target;
+        });
+    }
+
+    /** Merges pending deltas into the rollup table; a failed flush leaves them pending for the next run. */
+    public void flush() {
+        flushLock.writeLock().lock();
+        try {
+            Map<Bucket, Delta> drained = new HashMap<>();
+            for (Bucket bucket : pending.keySet()) {
+                Delta delta = pending.remove(bucket);
+                if (delta != null) {
+                    drained.put(bucket, delta);
+                }
+            }
+            if (drained.isEmpty()) {
+                return;
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> drained.forEach(this::mergeIntoRow));
+            } catch (RuntimeException e) {
+                drained.forEach((bucket, delta) -> pending.merge(bucket, delta, Delta::mergeFrom));
+                throw e;
+            }
+        } finally {
+            flushLock.writeLock().unlock();
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.warn("Resolution rollup flush failed, will retry: {}", e.getMessage());
+        }
+    }
+
+    private void mergeIntoRow(Bucket bucket, Delta delta) {
+        ResolutionRollup row = rollupRepository
+                .findByResolvedOnAndCategoryAndPriority(bucket.day(), bucket.category(), bucket.priority())
+                .orElseGet(() -> new ResolutionRollup(null, bucket.day(), bucket.category(), bucket.priority(), 0, 0, null));
+        QuantileSketch sketch = QuantileSketch.fromBytes(row.getSketch());
+        sketch.merge(delta.sketch);
+        row.setResolvedCount(row.getResolvedCount() + delta.count);
+        row.setTotalSeconds(row.getTotalSeconds() + delta.totalSeconds);
+        row.setSketch(sketch.toBytes());
+        rollupRepository.save(row);
+    }
+
+    // One pass over resolved complaints the first time rollups are enabled against existing data
+    private void backfillIfEmpty() {
+        if (rollupRepository.count() > 0) {
+            return;
+        }
+        TransactionTemplate readOnly = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        readOnly.setReadOnly(true);
+        readOnly.executeWithoutResult(status -> {
+            try (Stream<Object[]> rows = complaintRepository.streamResolutionTimes()) {
+                rows.forEach(row -> record((Complaint.Category) row[0], (Complaint.Priority) row[1],
+                        (LocalDateTime) row[2], (LocalDateTime) row[3]));
+            }
+        });
+        if (!pending.isEmpty()) {
+            log.info("Backfilling resolution rollups for {} buckets", pending.size());
+            flush();
+        }
+    }
+
+    public Map<String, Object> resolutionTimes(LocalDate from, LocalDate to, Complaint.Category category,
+                                               Complaint.Priority priority, GroupBy groupBy) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("'from' must not be after 'to'");
+        }
+
+        Map<Object, Group> groups = new TreeMap<>();
+        Group overall = new Group();
+
+        flushLock.readLock().lock();
+        try {
+            for (ResolutionRollup row : rollupRepository.findInRange(from, to, category, priority)) {
+                Bucket bucket = new Bucket(row.getResolvedOn(), row.getCategory(), row.getPriority());
+                QuantileSketch sketch = QuantileSketch.fromBytes(row.getSketch());
+                overall.add(row.getResolvedCount(), row.getTotalSeconds(), sketch);
+                groups.computeIfAbsent(groupKey(bucket, groupBy), key -> new Group())
+                        .add(row.getResolvedCount(), row.getTotalSeconds(), sketch);
+            }
+            pending.forEach((bucket, delta) -> {
+                if (bucket.day().isBefore(from) || bucket.day().isAfter(to)
+                        || (category != null && bucket.category() != category)
+                        || (priority != null && bucket.priority() != priority)) {
+                    return;
+                }
+                synchronized (delta) {
+                    overall.add(delta.count, delta.totalSeconds, delta.sketch);
+                    groups.computeIfAbsent(groupKey(bucket, groupBy), key -> new Group())
+                            .add(delta.count, delta.totalSeconds, delta.sketch);
+                }
+            });
+        } finally {
+            flushLock.readLock().unlock();
+        }
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("from", from);
+        response.put("to", to);
+        response.put("category", category);
+        response.put("priority", priority);
+        response.put("groupBy", groupBy);
+        response.put("overall", overall.toMap(null));
+        if (groupBy != GroupBy.NONE) {
+            List<Map<String, Object>> rows = new ArrayList<>();
+            groups.forEach((key, group) -> rows.add(group.toMap(key)));
+            response.put("groups", rows);
+        }
+        return response;
+    }
+
+    private static Object groupKey(Bucket bucket, GroupBy groupBy) {
+        switch (groupBy) {
+            case DAY:
+                return bucket.day();
+            case WEEK:
+                return bucket.day().with(DayOfWeek.MONDAY);
+            case CATEGORY:
+                return bucket.category();
+            case PRIORITY:
+                return bucket.priority();
+            default:
+                return "all";
+        }
+    }
+
+    private record Bucket(LocalDate day, Complaint.Category category, Complaint.Priority priority) {
+    }
+
+    // Mutated only inside pending.compute/merge, which serialise per bucket; readers synchronise on it
+    private static final class Delta {
+        private long count;
+        private long totalSeconds;
+        private final QuantileSketch sketch = new QuantileSketch();
+
+        synchronized void add(long seconds) {
+            count++;
+            totalSeconds += seconds;
+            sketch.add(seconds);
+        }
+
+        synchronized Delta mergeFrom(Delta other) {
+            count += other.count;
+            totalSeconds += other.totalSeconds;
+            sketch.merge(other.sketch);
+            return this;
+        }
+    }
+
+    private static final class Group {
+        private long count;
+        private long totalSeconds;
+        private final QuantileSketch sketch = new QuantileSketch();
+
+        void add(long count, long totalSeconds, QuantileSketch other) {
+            this.count += count;
+            this.totalSeconds += totalSeconds;
+            sketch.merge(other);
+        }
+
+        Map<String, Object> toMap(Object key) {
+            Map<String, Object> map = new LinkedHashMap<>();
+            if (key != null) {
+                map.put("key", key);
+            }
+            map.put("resolved", count);
+            map.put("meanHours", count == 0 ? null : hours((double) totalSeconds / count));
+            Map<String, Object> percentiles = new LinkedHashMap<>();
+            for (double q : QUANTILES) {
+                percentiles.put("p" + Math.round(q * 100), count == 0 ? null : hours(sketch.quantile(q)));
+            }
+            map.put("percentileHours", percentiles);
+            return map;
+        }
+
+        private static double hours(double seconds) {
+            return Math.round(seconds / 36.0) / 100.0;
+        }
+    }
+}
@@ -0,0 +1,358 @@
+package com.hostel.complaint.service;
+
+import com.hostel.complaint.entity.User;
+import com.hostel.complaint.metrics.StatementCounter;
+import com.hostel.complaint.repository.UserRepository;
+import com.hostel.complaint.security.PasswordHashingRejectedException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Streams a CSV of students into the users table.
+ *
+ * Expected header: email,password,name,phoneNumber[,parentId]. Rows are read
+ * and persisted one chunk at a time, so memory use depends on the chunk size
+ * and not on the file size.
+ *
+ * Passwords are hashed on {@code users.import.hash-threads} import threads,
+ * each of which waits on the shared bounded password encoder. Keeping this
+ * below the encoder's pool size leaves hashing capacity for logins while an
+ * import runs. A hash the encoder rejects is retried with backoff and, if it
+ * is still rejected, reported against its row instead of aborting the import.
+ */
+@Service
+public class StudentImportService {
+
+    private static final String INSERT_USER_SQL =
+            "INSERT INTO users (email, password, name, phone_number, role, active, parent_id, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${users.import.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${users.import.max-reported-errors:1000}")
+    private int maxReportedErrors;
+
+    // 0 means half the cores
+    @Value("${users.import.hash-threads:0}")
+    private int hashThreads;
+
+    @Value("${users.import.hash-retries:5}")
+    private int hashRetries;
+
+    @Value("${users.import.hash-retry-backoff-ms:100}")
+    private long hashRetryBackoffMs;
+
+    private ExecutorService hashers;
+
+    @PostConstruct
+    public void start() {
+        int threads = hashThreads > 0 ? hashThreads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger threadNumber = new AtomicInteger();
+        hashers = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "student-import-hasher-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void stop() {
+        hashers.shutdownNow();
+    }
+
+    public Map<String, Object> importStudents(InputStream csv) throws IOException {
+        ImportReport report = new ImportReport(maxReportedErrors);
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(csv, StandardCharsets.UTF_8))) {
+            String header = reader.readLine();
+            if (header == null) {
+                throw new IllegalArgumentException("CSV file is empty");
+            }
+            Map<String, Integer> columns = parseHeader(header);
+
+            List<ImportRow> chunk = new ArrayList<>(chunkSize);
+            String line;
+            int rowNumber = 1;
+            while ((line = reader.readLine()) != null) {
+                rowNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                report.processed++;
+                try {
+                    chunk.add(ImportRow.parse(rowNumber, splitCsvLine(line), columns));
+                } catch (IllegalArgumentException e) {
+                    report.fail(rowNumber, null, e.getMessage());
+                }
+                if (chunk.size() >= chunkSize) {
+                    persistChunk(chunk, report);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                persistChunk(chunk, report);
+            }
+        }
+
+        return report.toMap();
+    }
+
+    private void persistChunk(List<ImportRow> chunk, ImportReport report) {
+        // The request's statement budget grows per chunk: one email lookup and one insert batch
+        StatementCounter.Count statements = StatementCounter.current();
+        if (statements != null) {
+            statements.addChunk();
+        }
+
+        Set<String> emails = new HashSet<>();
+        for (ImportRow row : chunk) {
+            emails.add(row.email);
+        }
+        Set<String> existing = new HashSet<>(userRepository.findExistingEmails(emails));
+
+        List<ImportRow> unique = new ArrayList<>(chunk.size());
+        Set<String> seenInChunk = new HashSet<>();
+        for (ImportRow row : chunk) {
+            if (existing.contains(row.email) || !seenInChunk.add(row.email)) {
+                report.fail(row.rowNumber, row.email, "Email already exists");
+            } else {
+                unique.add(row);
+            }
+        }
+        if (unique.isEmpty()) {
+            return;
+        }
+
+        // BCrypt dominates import time, so spread it over the import hashers
+        List<CompletableFuture<Void>> hashes = new ArrayList<>(unique.size());
+        for (ImportRow row : unique) {
+            hashes.add(CompletableFuture.runAsync(() -> hash(row), hashers));
+        }
+        CompletableFuture.allOf(hashes.toArray(new CompletableFuture[0])).join();
+
+        List<ImportRow> accepted = new ArrayList<>(unique.size());
+        for (ImportRow row : unique) {
+            if (row.encodedPassword != null) {
+                accepted.add(row);
+            } else {
+                report.fail(row.rowNumber, row.email, "Password hashing is busy; retry this row");
+            }
+        }
+        if (accepted.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> insertBatch(accepted));
+            report.imported += accepted.size();
+        } catch (DataAccessException e) {
+            // A concurrent registration may have claimed an email; fall back to row-by-row to isolate it
+            for (ImportRow row : accepted) {
+                try {
+                    insertBatch(List.of(row));
+                    report.imported++;
+                } catch (DataAccessException rowError) {
+                    report.fail(row.rowNumber, row.email, "Could not be saved: " + rowError.getMostSpecificCause().getMessage());
+                }
+            }
+        }
+    }
+
+    // Leaves encodedPassword null if the encoder keeps rejecting; the caller reports the row
+    private void hash(ImportRow row) {
+        for (int attempt = 0; attempt <= hashRetries; attempt++) {
+            try {
+                row.encodedPassword = passwordEncoder.encode(row.password);
+                return;
+            } catch (PasswordHashingRejectedException e) {
+                try {
+                    Thread.sleep(hashRetryBackoffMs * (attempt + 1));
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void insertBatch(List<ImportRow> rows) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_USER_SQL, rows, rows.size(), (ps, row) -> {
+            ps.setString(1, row.email);
+            ps.setString(2, row.encodedPassword);
+            ps.setString(3, row.name);
+            ps.setString(4, row.phoneNumber);
+            ps.setString(5, User.Role.STUDENT.name());
+            ps.setBoolean(6, true);
+            ps.setObject(7, row.parentId);
+            ps.setTimestamp(8, now);
+            ps.setTimestamp(9, now);
+        });
+    }
+
+    private static Map<String, Integer> parseHeader(String header) {
+        List<String> names = splitCsvLine(header);
+        Map<String, Integer> columns = new LinkedHashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            columns.put(names.get(i).trim().replace("\uFEFF", ""), i);
+        }
+        for (String required : List.of("email", "password", "name", "phoneNumber")) {
+            if (!columns.containsKey(required)) {
+                throw new IllegalArgumentException("CSV header is missing column: " + required);
+            }
+        }
+        return columns;
+    }
+
+    // Minimal RFC 4180 field splitting: quoted fields, escaped quotes, no embedded newlines
+    static List<String> splitCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private static final class ImportRow {
+        private final int rowNumber;
+        private final String email;
+        private final String password;
+        private final String name;
+        private final String phoneNumber;
+        private final Long parentId;
+        private String encodedPassword;
+
+        private ImportRow(int rowNumber, String email, String password, String name, String phoneNumber, Long parentId) {
+            this.rowNumber = rowNumber;
+            this.email = email;
+            this.password = password;
+            this.name = name;
+            this.phoneNumber = phoneNumber;
+            this.parentId = parentId;
+        }
+
+        static ImportRow parse(int rowNumber, List<String> fields, Map<String, Integer> columns) {
+            String email = User.normalizeEmail(required(fields, columns, "email"));
+            String password = required(fields, columns, "password");
+            String name = required(fields, columns, "name");
+            String phoneNumber = required(fields, columns, "phoneNumber");
+            String parentId = optional(fields, columns, "parentId");
+            if (!email.contains("@")) {
+                throw new IllegalArgumentException("Invalid email: " + email);
+            }
+            try {
+                return new ImportRow(rowNumber, email, password, name, phoneNumber,
+                        parentId == null ? null : Long.valueOf(parentId));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid parentId: " + parentId);
+            }
+        }
+
+        private static String required(List<String> fields, Map<String, Integer> columns, String column) {
+            String value = optional(fields, columns, column);
+            if (value == null) {
+                throw new IllegalArgumentException("Missing " + column);
+            }
+            return value;
+        }
+
+        private static String optional(List<String> fields, Map<String, Integer> columns, String column) {
+            Integer index = columns.get(column);
+            if (index == null || index >= fields.size()) {
+                return null;
+            }
+            String value = fields.get(index).trim();
+            return value.isEmpty() ? null : value;
+        }
+    }
+
+    private static final class ImportReport {
+        private final int maxErrors;
+        private final List<Map<String, Object>> errors = new ArrayList<>();
+        private long processed;
+        private long imported;
+        private long failed;
+
+        private ImportReport(int maxErrors) {
+            this.maxErrors = maxErrors;
+        }
+
+        void fail(int rowNumber, String email, String message) {
+            failed++;
+            if (errors.size() < maxErrors) {
+                Map<String, Object> error = new LinkedHashMap<>();
+                error.put("row", rowNumber);
+                error.put("email", email);
+                error.put("error", message);
+                errors.add(error);
+            }
+        }
+
+        Map<String, Object> toMap() {
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("processed", processed);
+            result.put("imported", imported);
+            result.put("failed", failed);
+            result.put("errors", errors);
+            result.put("errorsTruncated", failed > errors.size());
+            return result;
+        }
+    }
+}
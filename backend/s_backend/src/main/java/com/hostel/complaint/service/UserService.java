@@ -1,10 +1,13 @@
 package com.hostel.complaint.service;
 
+import com.hostel.complaint.dto.ChangeProbe;
 import com.hostel.complaint.entity.User;
 import com.hostel.complaint.repository.UserRepository;
+import com.hostel.complaint.security.CustomUserDetailsService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,7 +20,11 @@ public class UserService {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private CustomUserDetailsService userDetailsService;
+
     public User createUser(User user) {
+        user.setEmail(User.normalizeEmail(user.getEmail()));
         if (userRepository.existsByEmail(user.getEmail())) {
             throw new RuntimeException("Email already exists");
         }
@@ -26,7 +33,7 @@ public class UserService {
     }
 
     public Optional<User> findByEmail(String email) {
-        return userRepository.findByEmail(email);
+        return userRepository.findByEmail(User.normalizeEmail(email));
     }
 
     public Optional<User> findByFirebaseUid(String firebaseUid) {
@@ -37,6 +44,14 @@ public class UserService {
         return userRepository.findById(id);
     }
 
+    public ChangeProbe probeUsers(User.Role role) {
+        return role == null ? userRepository.probeAll() : userRepository.probeByRole(role);
+    }
+
+    public Optional<LocalDateTime> findUpdatedAt(Long id) {
+        return userRepository.findUpdatedAtById(id);
+    }
+
     public List<User> getAllUsers() {
         return userRepository.findAll();
     }
@@ -56,13 +71,16 @@ public class UserService {
             user.setPassword(passwordEncoder.encode(userDetails.getPassword()));
         }
 
-        return userRepository.save(user);
+        User savedUser = userRepository.save(user);
+        userDetailsService.evict(savedUser.getEmail());
+        return savedUser;
     }
 
     public void deleteUser(Long id) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("User not found"));
         userRepository.delete(user);
+        userDetailsService.evict(user.getEmail());
     }
 
     public void deactivateUser(Long id) {
@@ -70,6 +88,7 @@ public class UserService {
                 .orElseThrow(() -> new RuntimeException("User not found"));
         user.setActive(false);
         userRepository.save(user);
+        userDetailsService.evict(user.getEmail());
     }
 
     public void activateUser(Long id) {
@@ -77,6 +96,7 @@ public class UserService {
                 .orElseThrow(() -> new RuntimeException("User not found"));
         user.setActive(true);
         userRepository.save(user);
+        userDetailsService.evict(user.getEmail());
     }
 
     public boolean validatePassword(String rawPassword, String encodedPassword) {
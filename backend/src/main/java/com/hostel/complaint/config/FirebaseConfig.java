@@ -1,6 +1,7 @@
 package com.hostel.complaint.config;
 
 import com.google.auth.oauth2.GoogleCredentials;
+import com.google.auth.oauth2.ServiceAccountCredentials;
 import com.google.firebase.FirebaseApp;
 import com.google.firebase.FirebaseOptions;
 import com.google.firebase.auth.FirebaseAuth;
@@ -11,13 +12,16 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
 import org.springframework.core.io.ClassPathResource;
 
 import javax.annotation.PostConstruct;
 import java.io.IOException;
 import java.io.InputStream;
 
+// The loadtest profile replaces Firebase with an in-memory FirebaseGateway
 @Configuration
+@Profile("!loadtest")
 public class FirebaseConfig {
 
     private static final Logger logger = LoggerFactory.getLogger(FirebaseConfig.class);
@@ -31,9 +35,13 @@ public class FirebaseConfig {
             if (FirebaseApp.getApps().isEmpty()) {
                 InputStream serviceAccount = new ClassPathResource(firebaseConfigPath.replace("classpath:", "")).getInputStream();
                 
-                FirebaseOptions options = FirebaseOptions.builder()
-                        .setCredentials(GoogleCredentials.fromStream(serviceAccount))
-                        .build();
+                GoogleCredentials credentials = GoogleCredentials.fromStream(serviceAccount);
+                FirebaseOptions.Builder builder = FirebaseOptions.builder().setCredentials(credentials);
+                // FirebaseAdminGateway verifies ID tokens locally and needs the project id up front
+                if (credentials instanceof ServiceAccountCredentials) {
+                    builder.setProjectId(((ServiceAccountCredentials) credentials).getProjectId());
+                }
+                FirebaseOptions options = builder.build();
 
                 FirebaseApp.initializeApp(options);
                 logger.info("Firebase application has been initialized");
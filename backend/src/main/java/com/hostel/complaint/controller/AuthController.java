@@ -1,21 +1,24 @@
 package com.hostel.complaint.controller;
 
-import com.google.firebase.auth.FirebaseAuth;
 import com.google.firebase.auth.FirebaseAuthException;
-import com.google.firebase.auth.UserRecord;
-import com.google.cloud.firestore.Firestore;
-import com.google.cloud.firestore.DocumentReference;
-import com.google.cloud.firestore.WriteResult;
 import com.hostel.complaint.entity.User;
+import com.hostel.complaint.firebase.FirebaseGateway;
+import com.hostel.complaint.security.FirebaseTokenCache;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ExecutionException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.time.Instant;
 
 @RestController
@@ -24,11 +27,16 @@ import java.time.Instant;
 public class AuthController {
 
     @Autowired
-    private FirebaseAuth firebaseAuth;
+    private FirebaseGateway firebaseGateway;
 
-    @Autowired
-    private Firestore firestore;
+    @Value("${auth.register.timeout-ms:10000}")
+    private long registrationTimeoutMs;
+
+    private final Semaphore registrationPermits;
 
+    public AuthController(@Value("${auth.register.max-in-flight:200}") int maxInFlightRegistrations) {
+        this.registrationPermits = new Semaphore(maxInFlightRegistrations);
+    }
 
     // Login endpoint - Handles admin login with static credentials
     @PostMapping("/login")
@@ -38,7 +46,7 @@ public class AuthController {
             if ("admin@gmail.com".equals(request.getEmail()) && "admin".equals(request.getPassword())) {
                 // Use a fixed UID for the admin user for token generation
                 String adminUid = "admin_user_uid";
-                String customToken = firebaseAuth.createCustomToken(adminUid);
+                String customToken = firebaseGateway.createCustomToken(adminUid);
 
                 Map<String, Object> response = new HashMap<>();
                 response.put("success", true);
@@ -72,11 +80,11 @@ public class AuthController {
     public ResponseEntity<?> loginWithToken(@Valid @RequestBody TokenLoginRequest request) {
         try {
             // Verify the Firebase ID token
-            com.google.firebase.auth.FirebaseToken decodedToken = firebaseAuth.verifyIdToken(request.getIdToken());
+            FirebaseTokenCache.VerifiedToken decodedToken = firebaseGateway.verifyIdToken(request.getIdToken());
             String uid = decodedToken.getUid();
 
             // Get user info from Firebase
-            UserRecord firebaseUser = firebaseAuth.getUser(uid);
+            FirebaseGateway.Account firebaseUser = firebaseGateway.getUser(uid);
 
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
@@ -98,66 +106,87 @@ public class AuthController {
         }
     }
 
-    // Registration endpoint
+    // Registration endpoint - chains the Firebase Auth and Firestore futures without holding a servlet thread
     @PostMapping("/register")
-    public ResponseEntity<?> register(@Valid @RequestBody RegisterRequest request) {
+    public CompletableFuture<ResponseEntity<?>> register(@Valid @RequestBody RegisterRequest request) {
+        if (!registrationPermits.tryAcquire()) {
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(createErrorResponse("Registration is busy. Please try again shortly.")));
+        }
+
+        CompletableFuture<FirebaseGateway.Account> firebaseUser;
+        String uid = request.getFirebaseUid();
         try {
-            // Create user in Firebase Auth if firebaseUid is not provided
-            UserRecord firebaseUser = null;
-            String uid = request.getFirebaseUid();
-            
             if (uid == null || uid.isEmpty()) {
                 // Create user in Firebase directly - Firebase will handle duplicate email errors
-                UserRecord.CreateRequest createRequest = new UserRecord.CreateRequest()
-                    .setEmail(request.getEmail())
-                    .setEmailVerified(true)
-                    .setPassword(request.getPassword())
-                    .setDisplayName(request.getName());
-
-                firebaseUser = firebaseAuth.createUser(createRequest);
-                uid = firebaseUser.getUid();
+                firebaseUser = firebaseGateway.createUserAsync(request.getEmail(), request.getPassword(), request.getName());
             } else {
                 // Get existing Firebase user
-                firebaseUser = firebaseAuth.getUser(uid);
+                firebaseUser = firebaseGateway.getUserAsync(uid);
             }
+        } catch (RuntimeException e) {
+            // Invalid input rejected before any future existed; still release the permit and answer 400 below
+            firebaseUser = CompletableFuture.failedFuture(e);
+        }
 
-            // Store user details in Firestore
-            Map<String, Object> userDocData = new HashMap<>();
-            userDocData.put("uid", uid);
-            userDocData.put("name", request.getName());
-            userDocData.put("email", request.getEmail());
-            userDocData.put("mobile", request.getMobile());
-            userDocData.put("studentId", request.getStudentId());
-            userDocData.put("roomNumber", request.getRoomNumber());
-            userDocData.put("block", request.getBlock());
-            userDocData.put("role", "student");
-            userDocData.put("active", true);
-            userDocData.put("createdAt", Instant.now().toString());
-            userDocData.put("updatedAt", Instant.now().toString());
-
-            // Save to Firestore users collection
-            DocumentReference docRef = firestore.collection("users").document(uid);
-            WriteResult result = docRef.set(userDocData).get();
+        CompletableFuture<ResponseEntity<?>> registration = firebaseUser
+            .thenCompose(user -> {
+                // Store user details in Firestore users collection
+                return firebaseGateway.saveUserDocument(user.getUid(), createUserDocument(user.getUid(), request))
+                    .thenApply(result -> user.getUid());
+            })
+            .<ResponseEntity<?>>thenApply(createdUid -> {
+                Map<String, Object> response = new HashMap<>();
+                response.put("success", true);
+                response.put("message", "Registration successful! User details stored in database.");
+                response.put("user", Map.of(
+                    "uid", createdUid,
+                    "name", request.getName(),
+                    "email", request.getEmail(),
+                    "mobile", request.getMobile(),
+                    "studentId", request.getStudentId(),
+                    "roomNumber", request.getRoomNumber(),
+                    "block", request.getBlock(),
+                    "role", "student",
+                    "active", true
+                ));
+                return ResponseEntity.ok(response);
+            });
 
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("message", "Registration successful! User details stored in database.");
-            response.put("user", Map.of(
-                "uid", uid,
-                "name", request.getName(),
-                "email", request.getEmail(),
-                "mobile", request.getMobile(),
-                "studentId", request.getStudentId(),
-                "roomNumber", request.getRoomNumber(),
-                "block", request.getBlock(),
-                "role", "student",
-                "active", true
-            ));
+        // The permit is held until Firebase actually finishes, even if the client has timed out
+        registration.whenComplete((response, error) -> registrationPermits.release());
 
-            return ResponseEntity.ok(response);
+        return registration.copy()
+            .orTimeout(registrationTimeoutMs, TimeUnit.MILLISECONDS)
+            .exceptionally(this::registrationFailure);
+    }
 
-        } catch (FirebaseAuthException e) {
+    private Map<String, Object> createUserDocument(String uid, RegisterRequest request) {
+        Map<String, Object> userDocData = new HashMap<>();
+        userDocData.put("uid", uid);
+        userDocData.put("name", request.getName());
+        userDocData.put("email", request.getEmail());
+        userDocData.put("mobile", request.getMobile());
+        userDocData.put("studentId", request.getStudentId());
+        userDocData.put("roomNumber", request.getRoomNumber());
+        userDocData.put("block", request.getBlock());
+        userDocData.put("role", "student");
+        userDocData.put("active", true);
+        userDocData.put("createdAt", Instant.now().toString());
+        userDocData.put("updatedAt", Instant.now().toString());
+        return userDocData;
+    }
+
+    private ResponseEntity<?> registrationFailure(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+
+        if (cause instanceof TimeoutException) {
+            return ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT)
+                    .body(createErrorResponse("Registration timed out. Please try again."));
+        }
+        if (cause instanceof FirebaseAuthException) {
             // Handle Firebase-specific errors
+            FirebaseAuthException e = (FirebaseAuthException) cause;
             String errorMessage = "Registration failed";
             if (e.getErrorCode() != null) {
                 switch (e.getErrorCode().name()) {
@@ -175,11 +204,8 @@ public class AuthController {
                 }
             }
             return ResponseEntity.badRequest().body(createErrorResponse(errorMessage));
-        } catch (InterruptedException | ExecutionException e) {
-            return ResponseEntity.badRequest().body(createErrorResponse("Failed to store user data: " + e.getMessage()));
-        } catch (Exception e) {
-            return ResponseEntity.badRequest().body(createErrorResponse("Registration failed: " + e.getMessage()));
         }
+        return ResponseEntity.badRequest().body(createErrorResponse("Registration failed: " + cause.getMessage()));
     }
 
     // Helper method to create error response
@@ -0,0 +1,227 @@
+package com.hostel.complaint.firebase;
+
+import com.google.api.client.auth.openidconnect.IdToken;
+import com.google.api.client.auth.openidconnect.IdTokenVerifier;
+import com.google.api.client.json.gson.GsonFactory;
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutureCallback;
+import com.google.api.core.ApiFutures;
+import com.google.cloud.firestore.Firestore;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.firebase.ErrorCode;
+import com.google.firebase.FirebaseApp;
+import com.google.firebase.auth.AuthErrorCode;
+import com.google.firebase.auth.FirebaseAuth;
+import com.google.firebase.auth.FirebaseAuthException;
+import com.google.firebase.auth.FirebaseToken;
+import com.google.firebase.auth.UserRecord;
+import com.hostel.complaint.security.FirebaseTokenCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.security.PublicKey;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+@Component
+@Profile("!loadtest")
+public class FirebaseAdminGateway implements FirebaseGateway {
+
+    @Autowired
+    private FirebaseAuth firebaseAuth;
+
+    @Autowired
+    private Firestore firestore;
+
+    @Autowired
+    private FirebaseSigningKeys signingKeys;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${firebase.health.timeout-ms:3000}")
+    private long healthTimeoutMs;
+
+    /**
+     * Verifies locally against {@link FirebaseSigningKeys}, applying the same
+     * checks as {@code FirebaseAuth.verifyIdToken} without revocation; the
+     * keys are prefetched, so no certificate download lands on this thread.
+     * Falls back to the SDK when no project id is configured.
+     */
+    @Override
+    public FirebaseTokenCache.VerifiedToken verifyIdToken(String idToken) throws FirebaseAuthException {
+        String projectId = FirebaseApp.getInstance().getOptions().getProjectId();
+        if (projectId == null) {
+            FirebaseToken decodedToken = timed("verifyIdToken", () -> firebaseAuth.verifyIdToken(idToken));
+            return new FirebaseTokenCache.VerifiedToken(decodedToken.getUid(), decodedToken.getEmail(),
+                    expiryOf(decodedToken));
+        }
+        return timed("verifyIdToken", () -> verifyLocally(idToken, projectId));
+    }
+
+    private FirebaseTokenCache.VerifiedToken verifyLocally(String idToken, String projectId) throws FirebaseAuthException {
+        IdToken token;
+        try {
+            token = IdToken.parse(GsonFactory.getDefaultInstance(), idToken);
+        } catch (IOException | IllegalArgumentException e) {
+            throw invalidToken("Failed to parse Firebase ID token", e);
+        }
+
+        IdToken.Payload payload = token.getPayload();
+        long now = System.currentTimeMillis();
+        if (token.getHeader().getKeyId() == null || !"RS256".equals(token.getHeader().getAlgorithm())) {
+            throw invalidToken("Firebase ID token has an unexpected key id or algorithm", null);
+        }
+        if (!token.verifyAudience(Collections.singleton(projectId))
+                || !token.verifyIssuer("https://securetoken.google.com/" + projectId)) {
+            throw invalidToken("Firebase ID token was not issued for this project", null);
+        }
+        String uid = payload.getSubject();
+        if (uid == null || uid.isEmpty() || uid.length() > 128) {
+            throw invalidToken("Firebase ID token has an invalid subject", null);
+        }
+        if (!token.verifyExpirationTime(now, IdTokenVerifier.DEFAULT_TIME_SKEW_SECONDS)) {
+            throw new FirebaseAuthException(ErrorCode.INVALID_ARGUMENT, "Firebase ID token has expired",
+                    null, null, AuthErrorCode.EXPIRED_ID_TOKEN);
+        }
+        if (!token.verifyIssuedAtTime(now, IdTokenVerifier.DEFAULT_TIME_SKEW_SECONDS)) {
+            throw invalidToken("Firebase ID token is issued in the future", null);
+        }
+        if (!hasValidSignature(token)) {
+            throw invalidToken("Firebase ID token has an invalid signature", null);
+        }
+
+        Object email = payload.get("email");
+        return new FirebaseTokenCache.VerifiedToken(uid, email instanceof String ? (String) email : null,
+                payload.getExpirationTimeSeconds() * 1000L);
+    }
+
+    private boolean hasValidSignature(IdToken token) throws FirebaseAuthException {
+        try {
+            for (PublicKey key : signingKeys.publicKeys()) {
+                if (token.verifySignature(key)) {
+                    return true;
+                }
+            }
+            return false;
+        } catch (IOException | GeneralSecurityException e) {
+            throw new FirebaseAuthException(ErrorCode.UNKNOWN, "Unable to load Firebase signing keys", e,
+                    null, AuthErrorCode.CERTIFICATE_FETCH_FAILED);
+        }
+    }
+
+    private static FirebaseAuthException invalidToken(String message, Throwable cause) {
+        return new FirebaseAuthException(ErrorCode.INVALID_ARGUMENT, message, cause, null, AuthErrorCode.INVALID_ID_TOKEN);
+    }
+
+    @Override
+    public String createCustomToken(String uid) throws FirebaseAuthException {
+        return timed("createCustomToken", () -> firebaseAuth.createCustomToken(uid));
+    }
+
+    @Override
+    public Account getUser(String uid) throws FirebaseAuthException {
+        return toAccount(timed("getUser", () -> firebaseAuth.getUser(uid)));
+    }
+
+    @Override
+    public CompletableFuture<Account> getUserAsync(String uid) {
+        try {
+            return timed("getUser", toCompletableFuture(firebaseAuth.getUserAsync(uid)))
+                    .thenApply(FirebaseAdminGateway::toAccount);
+        } catch (RuntimeException e) {
+            // The SDK validates arguments on the calling thread; report that through the future like any other failure
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<Account> createUserAsync(String email, String password, String displayName) {
+        try {
+            UserRecord.CreateRequest createRequest = new UserRecord.CreateRequest()
+                    .setEmail(email)
+                    .setEmailVerified(true)
+                    .setPassword(password)
+                    .setDisplayName(displayName);
+            return timed("createUser", toCompletableFuture(firebaseAuth.createUserAsync(createRequest)))
+                    .thenApply(FirebaseAdminGateway::toAccount);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<Void> saveUserDocument(String uid, Map<String, Object> document) {
+        return timed("saveUserDocument", toCompletableFuture(firestore.collection("users").document(uid).set(document)))
+                .thenApply(result -> null);
+    }
+
+    @Override
+    public void checkHealth() throws Exception {
+        timed("healthCheck", toCompletableFuture(firestore.collection("users").limit(1).get()))
+                .get(healthTimeoutMs, TimeUnit.MILLISECONDS);
+    }
+
+    // Records latency per operation, tagged success or error, as firebase.calls
+    private <T> T timed(String operation, FirebaseCall<T> call) throws FirebaseAuthException {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            T result = call.execute();
+            outcome = "success";
+            return result;
+        } finally {
+            sample.stop(timer(operation, outcome));
+        }
+    }
+
+    private <T> CompletableFuture<T> timed(String operation, CompletableFuture<T> call) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        return call.whenComplete((result, error) -> sample.stop(timer(operation, error == null ? "success" : "error")));
+    }
+
+    private Timer timer(String operation, String outcome) {
+        return meterRegistry.timer("firebase.calls", "operation", operation, "outcome", outcome);
+    }
+
+    private static Account toAccount(UserRecord user) {
+        return new Account(user.getUid(), user.getEmail(), user.getDisplayName());
+    }
+
+    private static long expiryOf(FirebaseToken decodedToken) {
+        Object exp = decodedToken.getClaims().get("exp");
+        if (exp instanceof Number) {
+            return ((Number) exp).longValue() * 1000L;
+        }
+        return System.currentTimeMillis();
+    }
+
+    private interface FirebaseCall<T> {
+        T execute() throws FirebaseAuthException;
+    }
+
+    // Adapts a Google ApiFuture to a CompletableFuture without blocking a thread
+    private static <T> CompletableFuture<T> toCompletableFuture(ApiFuture<T> apiFuture) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        ApiFutures.addCallback(apiFuture, new ApiFutureCallback<T>() {
+            @Override
+            public void onSuccess(T result) {
+                future.complete(result);
+            }
+
+            @Override
+            public void onFailure(Throwable t) {
+                future.completeExceptionally(t);
+            }
+        }, MoreExecutors.directExecutor());
+        return future;
+    }
+}
@@ -0,0 +1,52 @@
+package com.hostel.complaint.firebase;
+
+import com.google.firebase.auth.FirebaseAuthException;
+import com.hostel.complaint.security.FirebaseTokenCache;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * The Firebase Auth and Firestore calls the backend makes. Production uses
+ * {@link FirebaseAdminGateway}; the {@code loadtest} profile swaps in an
+ * in-memory implementation so the backend can be driven without Google.
+ *
+ * Async methods complete exceptionally with {@link FirebaseAuthException}
+ * for auth failures, the same as the Admin SDK futures they wrap, and never
+ * throw: invalid arguments also come back as a failed future.
+ */
+public interface FirebaseGateway {
+
+    FirebaseTokenCache.VerifiedToken verifyIdToken(String idToken) throws FirebaseAuthException;
+
+    String createCustomToken(String uid) throws FirebaseAuthException;
+
+    Account getUser(String uid) throws FirebaseAuthException;
+
+    CompletableFuture<Account> getUserAsync(String uid);
+
+    CompletableFuture<Account> createUserAsync(String email, String password, String displayName);
+
+    CompletableFuture<Void> saveUserDocument(String uid, Map<String, Object> document);
+
+    /**
+     * Makes one cheap round trip to the backing services; throws if they cannot be reached.
+     */
+    void checkHealth() throws Exception;
+
+    class Account {
+        private final String uid;
+        private final String email;
+        private final String displayName;
+
+        public Account(String uid, String email, String displayName) {
+            this.uid = uid;
+            this.email = email;
+            this.displayName = displayName;
+        }
+
+        public String getUid() { return uid; }
+        public String getEmail() { return email; }
+        public String getDisplayName() { return displayName; }
+    }
+}
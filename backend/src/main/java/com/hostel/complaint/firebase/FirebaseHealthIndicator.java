@@ -0,0 +1,47 @@
+package com.hostel.complaint.firebase;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reports whether Firebase answers a real round trip. The result is reused
+ * for {@code firebase.health.cache-ms} so frequent probes do not turn into
+ * Firestore traffic.
+ */
+@Component("firebase")
+public class FirebaseHealthIndicator implements HealthIndicator {
+
+    @Autowired
+    private FirebaseGateway firebaseGateway;
+
+    @Value("${firebase.health.cache-ms:30000}")
+    private long cacheMs;
+
+    private volatile Health lastHealth;
+    private volatile long checkedAt;
+
+    @Override
+    public Health health() {
+        long now = System.currentTimeMillis();
+        Health health = lastHealth;
+        if (health != null && now - checkedAt < cacheMs) {
+            return health;
+        }
+
+        try {
+            firebaseGateway.checkHealth();
+            health = Health.up().build();
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            health = Health.down().withDetail("error", e.getClass().getSimpleName() + ": " + e.getMessage()).build();
+        }
+        lastHealth = health;
+        checkedAt = now;
+        return health;
+    }
+}
@@ -0,0 +1,87 @@
+package com.hostel.complaint.firebase;
+
+import com.google.api.client.googleapis.auth.oauth2.GooglePublicKeysManager;
+import com.google.api.client.http.javanet.NetHttpTransport;
+import com.google.api.client.json.gson.GsonFactory;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.security.PublicKey;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Google's public certificates for Firebase ID tokens, fetched ahead of time.
+ *
+ * The certificate endpoint returns a Cache-Control max-age (usually hours).
+ * A background thread fetches the keys at startup and again
+ * {@code firebase.signing-keys.refresh-ahead-ms} before that max-age runs
+ * out, so verification on request threads always finds a current key set.
+ * {@link GooglePublicKeysManager} only fetches on its own when its copy is
+ * within five minutes of expiry, which the prefetch never lets happen unless
+ * the endpoint is unreachable for that long.
+ */
+@Component
+@Profile("!loadtest")
+public class FirebaseSigningKeys {
+
+    private static final Logger logger = LoggerFactory.getLogger(FirebaseSigningKeys.class);
+
+    static final String ID_TOKEN_CERT_URL =
+            "https://www.googleapis.com/robot/v1/metadata/x509/securetoken@system.gserviceaccount.com";
+
+    @Value("${firebase.signing-keys.refresh-ahead-ms:900000}")
+    private long refreshAheadMs;
+
+    @Value("${firebase.signing-keys.retry-ms:30000}")
+    private long retryMs;
+
+    private final GooglePublicKeysManager keysManager =
+            new GooglePublicKeysManager.Builder(new NetHttpTransport(), GsonFactory.getDefaultInstance())
+                    .setPublicCertsEncodedUrl(ID_TOKEN_CERT_URL)
+                    .build();
+
+    private ScheduledExecutorService refresher;
+
+    @PostConstruct
+    public void start() {
+        refresher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "firebase-signing-keys");
+            thread.setDaemon(true);
+            return thread;
+        });
+        refresher.execute(this::refresh);
+    }
+
+    @PreDestroy
+    public void stop() {
+        refresher.shutdownNow();
+    }
+
+    public List<PublicKey> publicKeys() throws GeneralSecurityException, IOException {
+        return keysManager.getPublicKeys();
+    }
+
+    private void refresh() {
+        long delay;
+        try {
+            keysManager.refresh();
+            long expiresIn = keysManager.getExpirationTimeMilliseconds() - System.currentTimeMillis();
+            delay = Math.max(retryMs, expiresIn - refreshAheadMs);
+            logger.debug("Fetched Firebase signing keys; next refresh in {} ms", delay);
+        } catch (Exception e) {
+            delay = retryMs;
+            logger.warn("Fetching Firebase signing keys failed, retrying in {} ms: {}", delay, e.getMessage());
+        }
+        refresher.schedule(this::refresh, delay, TimeUnit.MILLISECONDS);
+    }
+}
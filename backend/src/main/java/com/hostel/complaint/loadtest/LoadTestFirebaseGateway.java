@@ -0,0 +1,220 @@
+package com.hostel.complaint.loadtest;
+
+import com.google.firebase.ErrorCode;
+import com.google.firebase.auth.AuthErrorCode;
+import com.google.firebase.auth.FirebaseAuthException;
+import com.hostel.complaint.firebase.FirebaseGateway;
+import com.hostel.complaint.security.FirebaseTokenCache;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * In-memory stand-in for Firebase Auth and Firestore, active only under the
+ * {@code loadtest} profile. Every call waits a configurable latency (base plus
+ * uniform jitter) and fails with a configurable probability, so the backend's
+ * behaviour under a slow or flaky Firebase can be measured without Google.
+ *
+ * Blocking calls sleep on the caller's thread, like the Admin SDK's own
+ * blocking methods; async calls complete on a delayed executor so no request
+ * thread is held.
+ */
+@Component
+@Profile("loadtest")
+public class LoadTestFirebaseGateway implements FirebaseGateway {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoadTestFirebaseGateway.class);
+
+    @Value("${loadtest.firebase.auth-latency-ms:40}")
+    private long authLatencyMs;
+
+    @Value("${loadtest.firebase.firestore-latency-ms:25}")
+    private long firestoreLatencyMs;
+
+    @Value("${loadtest.firebase.latency-jitter-ms:20}")
+    private long latencyJitterMs;
+
+    @Value("${loadtest.firebase.error-rate:0.0}")
+    private double errorRate;
+
+    @Value("${loadtest.firebase.token-ttl-seconds:3600}")
+    private long tokenTtlSeconds;
+
+    private final ConcurrentHashMap<String, StoredAccount> accountsByUid = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, String> uidsByEmail = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, FirebaseTokenCache.VerifiedToken> issuedTokens = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Map<String, Object>> userDocuments = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void announce() {
+        logger.warn("Using in-memory Firebase stand-in (auth {}ms, firestore {}ms, jitter {}ms, error rate {})",
+                authLatencyMs, firestoreLatencyMs, latencyJitterMs, errorRate);
+    }
+
+    @Override
+    public FirebaseTokenCache.VerifiedToken verifyIdToken(String idToken) throws FirebaseAuthException {
+        simulateBlockingCall(authLatencyMs);
+        FirebaseTokenCache.VerifiedToken token = issuedTokens.get(idToken);
+        if (token == null) {
+            throw new FirebaseAuthException(ErrorCode.INVALID_ARGUMENT, "Unknown ID token", null, null,
+                    AuthErrorCode.INVALID_ID_TOKEN);
+        }
+        if (token.getExpiresAt() <= System.currentTimeMillis()) {
+            issuedTokens.remove(idToken, token);
+            throw new FirebaseAuthException(ErrorCode.INVALID_ARGUMENT, "ID token has expired", null, null,
+                    AuthErrorCode.EXPIRED_ID_TOKEN);
+        }
+        return token;
+    }
+
+    @Override
+    public String createCustomToken(String uid) throws FirebaseAuthException {
+        simulateBlockingCall(authLatencyMs);
+        return "loadtest-custom." + uid + "." + UUID.randomUUID();
+    }
+
+    @Override
+    public Account getUser(String uid) throws FirebaseAuthException {
+        simulateBlockingCall(authLatencyMs);
+        return lookup(uid);
+    }
+
+    @Override
+    public CompletableFuture<Account> getUserAsync(String uid) {
+        return simulateAsyncCall(authLatencyMs, () -> {
+            try {
+                return lookup(uid);
+            } catch (FirebaseAuthException e) {
+                throw new LoadTestFailure(e);
+            }
+        });
+    }
+
+    @Override
+    public CompletableFuture<Account> createUserAsync(String email, String password, String displayName) {
+        return simulateAsyncCall(authLatencyMs, () -> {
+            String uid = UUID.randomUUID().toString().replace("-", "");
+            if (uidsByEmail.putIfAbsent(email, uid) != null) {
+                throw new LoadTestFailure(new FirebaseAuthException(ErrorCode.ALREADY_EXISTS,
+                        "The user with the provided email already exists", null, null,
+                        AuthErrorCode.EMAIL_ALREADY_EXISTS));
+            }
+            StoredAccount account = new StoredAccount(new Account(uid, email, displayName), password);
+            accountsByUid.put(uid, account);
+            return account.account;
+        });
+    }
+
+    @Override
+    public CompletableFuture<Void> saveUserDocument(String uid, Map<String, Object> document) {
+        return simulateAsyncCall(firestoreLatencyMs, () -> {
+            userDocuments.put(uid, document);
+            return null;
+        });
+    }
+
+    @Override
+    public void checkHealth() throws FirebaseAuthException {
+        simulateBlockingCall(firestoreLatencyMs);
+    }
+
+    /**
+     * What the Firebase client SDK's signInWithEmailAndPassword does for a real
+     * frontend: exchanges credentials for an ID token the backend will accept.
+     */
+    public String signIn(String email, String password) throws FirebaseAuthException {
+        simulateBlockingCall(authLatencyMs);
+        String uid = uidsByEmail.get(email);
+        StoredAccount account = uid != null ? accountsByUid.get(uid) : null;
+        if (account == null || !account.password.equals(password)) {
+            throw new FirebaseAuthException(ErrorCode.UNAUTHENTICATED, "Invalid email or password", null, null, null);
+        }
+
+        long expiresAt = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(tokenTtlSeconds);
+        String idToken = "loadtest." + UUID.randomUUID();
+        issuedTokens.put(idToken, new FirebaseTokenCache.VerifiedToken(uid, email, expiresAt));
+        return idToken;
+    }
+
+    private Account lookup(String uid) throws FirebaseAuthException {
+        StoredAccount account = accountsByUid.get(uid);
+        if (account == null) {
+            throw new FirebaseAuthException(ErrorCode.NOT_FOUND, "No user record found for " + uid, null, null,
+                    AuthErrorCode.USER_NOT_FOUND);
+        }
+        return account.account;
+    }
+
+    private void simulateBlockingCall(long baseLatencyMs) throws FirebaseAuthException {
+        try {
+            Thread.sleep(latency(baseLatencyMs));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (injectFailure()) {
+            throw injectedFailure();
+        }
+    }
+
+    private <T> CompletableFuture<T> simulateAsyncCall(long baseLatencyMs, Supplier<T> call) {
+        Executor delayed = CompletableFuture.delayedExecutor(latency(baseLatencyMs), TimeUnit.MILLISECONDS);
+        CompletableFuture<T> result = new CompletableFuture<>();
+        delayed.execute(() -> {
+            try {
+                if (injectFailure()) {
+                    result.completeExceptionally(injectedFailure());
+                } else {
+                    result.complete(call.get());
+                }
+            } catch (LoadTestFailure e) {
+                result.completeExceptionally(e.getCause());
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        });
+        return result;
+    }
+
+    private long latency(long baseLatencyMs) {
+        return latencyJitterMs > 0
+                ? baseLatencyMs + ThreadLocalRandom.current().nextLong(latencyJitterMs + 1)
+                : baseLatencyMs;
+    }
+
+    private boolean injectFailure() {
+        return errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate;
+    }
+
+    private static FirebaseAuthException injectedFailure() {
+        return new FirebaseAuthException(ErrorCode.UNAVAILABLE, "Injected Firebase failure", null, null, null);
+    }
+
+    private static final class StoredAccount {
+        private final Account account;
+        private final String password;
+
+        private StoredAccount(Account account, String password) {
+            this.account = account;
+            this.password = password;
+        }
+    }
+
+    // Carries a checked FirebaseAuthException out of a Supplier
+    private static final class LoadTestFailure extends RuntimeException {
+        private LoadTestFailure(FirebaseAuthException cause) {
+            super(cause);
+        }
+    }
+}
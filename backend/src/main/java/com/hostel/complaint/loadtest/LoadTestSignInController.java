@@ -0,0 +1,52 @@
+package com.hostel.complaint.loadtest;
+
+import com.google.firebase.auth.FirebaseAuthException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Issues ID tokens from {@link LoadTestFirebaseGateway} so the scenario driver
+ * can play the part of the Firebase client SDK. Only exists under the
+ * {@code loadtest} profile.
+ */
+@RestController
+@RequestMapping("/api/public/loadtest")
+@Profile("loadtest")
+public class LoadTestSignInController {
+
+    @Autowired
+    private LoadTestFirebaseGateway firebaseGateway;
+
+    @PostMapping("/sign-in")
+    public ResponseEntity<?> signIn(@RequestBody SignInRequest request) {
+        Map<String, Object> response = new HashMap<>();
+        try {
+            response.put("idToken", firebaseGateway.signIn(request.getEmail(), request.getPassword()));
+            return ResponseEntity.ok(response);
+        } catch (FirebaseAuthException e) {
+            response.put("success", false);
+            response.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(response);
+        }
+    }
+
+    public static class SignInRequest {
+        private String email;
+        private String password;
+
+        public String getEmail() { return email; }
+        public void setEmail(String email) { this.email = email; }
+
+        public String getPassword() { return password; }
+        public void setPassword(String password) { this.password = password; }
+    }
+}
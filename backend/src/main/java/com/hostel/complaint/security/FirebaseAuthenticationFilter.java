@@ -1,9 +1,9 @@
 package com.hostel.complaint.security;
 
-import com.google.firebase.auth.FirebaseAuth;
 import com.google.firebase.auth.FirebaseAuthException;
-import com.google.firebase.auth.FirebaseToken;
 import com.hostel.complaint.entity.User;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -32,18 +32,23 @@ public class FirebaseAuthenticationFilter extends OncePerRequestFilter {
     private static final String BEARER_PREFIX = "Bearer ";
 
     @Autowired
-    private FirebaseAuth firebaseAuth;
+    private FirebaseTokenCache firebaseTokenCache;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
 
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, 
                                   FilterChain filterChain) throws ServletException, IOException {
         
+        // Times token verification only, not the rest of the chain
+        Timer.Sample sample = Timer.start(meterRegistry);
         try {
             String token = extractTokenFromRequest(request);
             
             if (StringUtils.hasText(token)) {
-                FirebaseToken decodedToken = firebaseAuth.verifyIdToken(token);
+                FirebaseTokenCache.VerifiedToken decodedToken = firebaseTokenCache.verify(token);
                 String firebaseUid = decodedToken.getUid();
                 String email = decodedToken.getEmail();
                 
@@ -73,13 +78,18 @@ public class FirebaseAuthenticationFilter extends OncePerRequestFilter {
                     
                     logger.debug("User authenticated: {} with role: STUDENT", email);
                 }
+                stopTimer(sample, "authenticated");
+            } else {
+                stopTimer(sample, "anonymous");
             }
         } catch (FirebaseAuthException e) {
+            stopTimer(sample, "rejected");
             logger.error("Firebase token verification failed: {}", e.getMessage());
             response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
             response.getWriter().write("{\"error\":\"Invalid or expired token\"}");
             return;
         } catch (Exception e) {
+            stopTimer(sample, "error");
             logger.error("Authentication error: {}", e.getMessage());
             response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
             response.getWriter().write("{\"error\":\"Authentication failed\"}");
@@ -89,6 +99,10 @@ public class FirebaseAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    private void stopTimer(Timer.Sample sample, String outcome) {
+        sample.stop(meterRegistry.timer("auth.filter", "filter", "firebase", "outcome", outcome));
+    }
+
     private String extractTokenFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader(AUTHORIZATION_HEADER);
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith(BEARER_PREFIX)) {
@@ -0,0 +1,148 @@
+package com.hostel.complaint.security;
+
+import com.google.firebase.auth.FirebaseAuthException;
+import com.hostel.complaint.firebase.FirebaseGateway;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caches verified Firebase ID tokens by SHA-256 digest until each token's own
+ * expiry, so a signature check only happens the first time a token is seen.
+ * The cache is a bounded LRU split into lock stripes: when a stripe is full
+ * the least recently used token makes room.
+ *
+ * Signing keys are prefetched by {@link com.hostel.complaint.firebase.FirebaseSigningKeys};
+ * a background thread here only sweeps expired entries.
+ */
+@Component
+public class FirebaseTokenCache {
+
+    @Autowired
+    private FirebaseGateway firebaseGateway;
+
+    @Value("${firebase.token-cache.max-entries:10000}")
+    private int maxEntries;
+
+    @Value("${firebase.token-cache.sweep-interval-ms:60000}")
+    private long sweepIntervalMs;
+
+    // Lock stripes for the verified-token cache; each is an independent LRU
+    private static final int CACHE_STRIPES = 16;
+
+    private TokenStripe[] verifiedTokens;
+
+    private ScheduledExecutorService sweeper;
+
+    @PostConstruct
+    public void start() {
+        int perStripe = Math.max(1, maxEntries / CACHE_STRIPES);
+        verifiedTokens = new TokenStripe[CACHE_STRIPES];
+        for (int i = 0; i < CACHE_STRIPES; i++) {
+            verifiedTokens[i] = new TokenStripe(perStripe);
+        }
+
+        sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "firebase-token-cache-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        sweeper.scheduleWithFixedDelay(this::evictExpired, sweepIntervalMs, sweepIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        sweeper.shutdownNow();
+    }
+
+    public VerifiedToken verify(String idToken) throws FirebaseAuthException {
+        long now = System.currentTimeMillis();
+        String digest = digest(idToken);
+
+        TokenStripe stripe = verifiedTokens[Math.floorMod(digest.hashCode(), CACHE_STRIPES)];
+
+        VerifiedToken cached = stripe.get(digest, now);
+        if (cached != null) {
+            return cached;
+        }
+
+        VerifiedToken verified = firebaseGateway.verifyIdToken(idToken);
+        stripe.put(digest, verified);
+        return verified;
+    }
+
+    private void evictExpired() {
+        long now = System.currentTimeMillis();
+        for (TokenStripe stripe : verifiedTokens) {
+            stripe.evictExpired(now);
+        }
+    }
+
+    private static String digest(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(sha256.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    // Access-ordered map; a hit moves the token to the tail and inserts past capacity drop the head
+    private static final class TokenStripe {
+        private final LinkedHashMap<String, VerifiedToken> tokens;
+
+        private TokenStripe(int capacity) {
+            this.tokens = new LinkedHashMap<>(capacity * 4 / 3 + 1, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, VerifiedToken> eldest) {
+                    return size() > capacity;
+                }
+            };
+        }
+
+        synchronized VerifiedToken get(String digest, long now) {
+            VerifiedToken token = tokens.get(digest);
+            if (token != null && token.getExpiresAt() <= now) {
+                tokens.remove(digest);
+                return null;
+            }
+            return token;
+        }
+
+        synchronized void put(String digest, VerifiedToken token) {
+            tokens.put(digest, token);
+        }
+
+        synchronized void evictExpired(long now) {
+            tokens.values().removeIf(token -> token.getExpiresAt() <= now);
+        }
+    }
+
+    public static class VerifiedToken {
+        private final String uid;
+        private final String email;
+        private final long expiresAt;
+
+        public VerifiedToken(String uid, String email, long expiresAt) {
+            this.uid = uid;
+            this.email = email;
+            this.expiresAt = expiresAt;
+        }
+
+        public String getUid() { return uid; }
+        public String getEmail() { return email; }
+        public long getExpiresAt() { return expiresAt; }
+    }
+}